@@ -0,0 +1,84 @@
+/**
+ * Compares the HW 01 {@link ArrayList} against {@link java.util.ArrayList}.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class ArrayListBenchmark implements BenchmarkSuite {
+
+    @Override
+    public String name() {
+        return "arraylist";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+        int[] indices = Workloads.randomIndices(size, size);
+
+        harness.run(name(), "ArrayList.addToBack", size, size,
+            n -> new ArrayList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.addToBack(key);
+                }
+                return list;
+            });
+        harness.run(name(), "java.util.ArrayList.add", size, size,
+            n -> new java.util.ArrayList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.add(key);
+                }
+                return list;
+            });
+
+        harness.run(name(), "ArrayList.get", size, size,
+            n -> filled(keys), list -> {
+                long sum = 0;
+                for (int index : indices) {
+                    sum += list.get(index);
+                }
+                return sum;
+            });
+        harness.run(name(), "java.util.ArrayList.get", size, size,
+            n -> new java.util.ArrayList<>(java.util.Arrays.asList(keys)),
+            list -> {
+                long sum = 0;
+                for (int index : indices) {
+                    sum += list.get(index);
+                }
+                return sum;
+            });
+
+        harness.run(name(), "ArrayList.removeFromBack", size, size,
+            n -> filled(keys), list -> {
+                long sum = 0;
+                while (!list.isEmpty()) {
+                    sum += list.removeFromBack();
+                }
+                return sum;
+            });
+        harness.run(name(), "java.util.ArrayList.remove(last)", size, size,
+            n -> new java.util.ArrayList<>(java.util.Arrays.asList(keys)),
+            list -> {
+                long sum = 0;
+                while (!list.isEmpty()) {
+                    sum += list.remove(list.size() - 1);
+                }
+                return sum;
+            });
+    }
+
+    /**
+     * Returns an ArrayList holding the given keys.
+     *
+     * @param keys the keys to add
+     * @return the filled list
+     */
+    private static ArrayList<Integer> filled(Integer[] keys) {
+        ArrayList<Integer> list = new ArrayList<>(keys.length);
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        return list;
+    }
+}
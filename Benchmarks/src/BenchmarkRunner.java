@@ -0,0 +1,99 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the benchmark suites from the command line.
+ *
+ * Usage: {@code java BenchmarkRunner [options] [suite...]}
+ *
+ * Options:
+ * <pre>
+ *   --sizes=1000,100000   problem sizes to run every suite with
+ *   --warmup=3            warmup iterations per benchmark
+ *   --iterations=5        measured iterations per benchmark
+ *   --time=1000           length of one iteration in milliseconds
+ * </pre>
+ *
+ * With no suite names every suite is run. Run with a fixed heap, for
+ * example {@code -Xms2g -Xmx2g}, so resizing the heap does not show up in
+ * the results.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Returns every available suite keyed by name.
+     *
+     * @return the suites in the order they are run
+     */
+    private static Map<String, BenchmarkSuite> suites() {
+        Map<String, BenchmarkSuite> suites = new LinkedHashMap<>();
+        for (BenchmarkSuite suite : Arrays.asList(new ArrayListBenchmark(),
+                new LinkedListBenchmark(), new QueueBenchmark(),
+                new TreeBenchmark(), new HeapBenchmark(),
+                new HashMapBenchmark(), new SkipListBenchmark(),
+                new CacheBenchmark(), new ConcurrentDequeBenchmark(),
+                new GcdBenchmark(), new PalindromeBenchmark(),
+                new BlockingQueueBenchmark(), new ParallelSortBenchmark())) {
+            suites.put(suite.name(), suite);
+        }
+        return suites;
+    }
+
+    /**
+     * Parses the arguments and runs the selected suites.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 100_000, 1_000_000};
+        int warmup = 3;
+        int iterations = 5;
+        long time = 1_000;
+        List<String> selected = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--sizes=")) {
+                sizes = Arrays.stream(arg.substring(8).split(","))
+                        .mapToInt(Integer::parseInt).toArray();
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring(9));
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring(13));
+            } else if (arg.startsWith("--time=")) {
+                time = Long.parseLong(arg.substring(7));
+            } else {
+                selected.add(arg);
+            }
+        }
+
+        Map<String, BenchmarkSuite> suites = suites();
+        if (selected.isEmpty()) {
+            selected.addAll(suites.keySet());
+        }
+        for (String name : selected) {
+            if (!suites.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown suite: " + name
+                        + ", expected one of " + suites.keySet());
+            }
+        }
+
+        Harness harness = new Harness(warmup, iterations, time);
+        Harness.printHeader();
+        for (String name : selected) {
+            for (int size : sizes) {
+                suites.get(name).run(harness, size);
+            }
+        }
+    }
+}
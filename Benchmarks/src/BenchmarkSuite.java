@@ -0,0 +1,24 @@
+/**
+ * A group of benchmarks comparing one homework structure against its
+ * java.util counterpart.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public interface BenchmarkSuite {
+
+    /**
+     * Returns the name used to select this suite on the command line.
+     *
+     * @return the name of the suite
+     */
+    String name();
+
+    /**
+     * Runs every benchmark in the suite for the given problem size.
+     *
+     * @param harness the harness to run the benchmarks with
+     * @param size the number of elements each benchmark works on
+     */
+    void run(Harness harness, int size);
+}
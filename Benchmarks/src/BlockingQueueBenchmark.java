@@ -0,0 +1,182 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares the HW 03 {@link BoundedBlockingQueue} against
+ * {@link ArrayBlockingQueue} as the number of producers and consumers grows
+ * from 1 each to 64 each.
+ *
+ * Each invocation passes every key through a queue of {@code CAPACITY}
+ * slots, split evenly between the producers, which put, and the consumers,
+ * which take. The threads are virtual when the running JDK has them (Java
+ * 21 and later, found through reflection so this still compiles for Java 9)
+ * and platform threads otherwise; the benchmark names say which. Starting
+ * and joining the tasks is part of the timed work.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class BlockingQueueBenchmark implements BenchmarkSuite {
+    private static final int CAPACITY = 1024;
+    private static final int MAX_THREADS = 64;
+
+    /**
+     * The blocking operations of a queue under test.
+     */
+    private interface Channel {
+
+        /**
+         * Adds the value, waiting for room.
+         *
+         * @param value the value to add
+         * @throws InterruptedException if interrupted while waiting
+         */
+        void put(Integer value) throws InterruptedException;
+
+        /**
+         * Removes a value, waiting for one to arrive.
+         *
+         * @return the removed value
+         * @throws InterruptedException if interrupted while waiting
+         */
+        Integer take() throws InterruptedException;
+    }
+
+    @Override
+    public String name() {
+        return "blocking";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+        ExecutorService executor = virtualThreadExecutor();
+        String kind = executor == null ? "platform" : "virtual";
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool();
+        }
+
+        try {
+            for (int pairs = 1; pairs <= MAX_THREADS; pairs <<= 1) {
+                int count = pairs;
+                ExecutorService tasks = executor;
+                harness.run(name(), "BoundedBlockingQueue(" + count + "x"
+                    + count + " " + kind + ")", size, size,
+                    n -> bounded(), queue -> pass(tasks, queue, keys, count));
+                harness.run(name(), "ArrayBlockingQueue(" + count + "x"
+                    + count + " " + kind + ")", size, size,
+                    n -> arrayBlocking(),
+                    queue -> pass(tasks, queue, keys, count));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread per task, if the
+     * running JDK has virtual threads.
+     *
+     * @return the executor, or null if virtual threads are not available
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a BoundedBlockingQueue.
+     *
+     * @return the queue under test
+     */
+    private static Channel bounded() {
+        BoundedBlockingQueue<Integer> queue =
+                new BoundedBlockingQueue<>(CAPACITY);
+        return new Channel() {
+            @Override
+            public void put(Integer value) throws InterruptedException {
+                queue.put(value);
+            }
+
+            @Override
+            public Integer take() throws InterruptedException {
+                return queue.take();
+            }
+        };
+    }
+
+    /**
+     * Returns an ArrayBlockingQueue.
+     *
+     * @return the queue under test
+     */
+    private static Channel arrayBlocking() {
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(CAPACITY);
+        return new Channel() {
+            @Override
+            public void put(Integer value) throws InterruptedException {
+                queue.put(value);
+            }
+
+            @Override
+            public Integer take() throws InterruptedException {
+                return queue.take();
+            }
+        };
+    }
+
+    /**
+     * Passes every key through the queue with the given number of producers
+     * and consumers.
+     *
+     * @param executor the executor to run the tasks on
+     * @param queue the queue to share
+     * @param keys the keys to pass through
+     * @param pairs the number of producers, which is also the number of
+     * consumers
+     * @return the sum of the taken values
+     */
+    private static long pass(ExecutorService executor, Channel queue,
+            Integer[] keys, int pairs) {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int t = 0; t < pairs; t++) {
+            int id = t;
+            tasks.add(() -> {
+                for (int i = id; i < keys.length; i += pairs) {
+                    queue.put(keys[i]);
+                }
+                return 0L;
+            });
+            tasks.add(() -> {
+                long sum = 0;
+                for (int i = id; i < keys.length; i += pairs) {
+                    sum += queue.take();
+                }
+                return sum;
+            });
+        }
+
+        long sum = 0;
+        try {
+            for (Future<Long> result : executor.invokeAll(tasks)) {
+                sum += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return sum;
+    }
+}
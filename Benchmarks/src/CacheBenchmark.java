@@ -0,0 +1,104 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the HW 06 {@link BoundedCache} policies against an LRU cache
+ * built on {@link LinkedHashMap}. Every operation is a lookup that fills
+ * the cache on a miss. The keys follow a skewed distribution over a hot
+ * set ten times the cache's capacity, with three in ten being one-off keys
+ * from a scan, which is the pattern that flushes a plain LRU cache.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class CacheBenchmark implements BenchmarkSuite {
+    private static final long SEED = 1332;
+
+    @Override
+    public String name() {
+        return "cache";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = keys(size);
+        int capacity = Math.max(1, size / 100);
+
+        runCache(harness, "BoundedCache(lru)", size, keys,
+            n -> new BoundedCache<>(capacity));
+        runCache(harness, "BoundedCache(lfu)", size, keys,
+            n -> new BoundedCache<>(capacity, EvictionPolicy.lfu()));
+        runCache(harness, "BoundedCache(w-tinylfu)", size, keys,
+            n -> new BoundedCache<>(capacity,
+                    EvictionPolicy.windowTinyLfu(capacity)));
+        harness.run(name(), "LinkedHashMap(lru)", size, size,
+            n -> new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Integer, Integer> eldest) {
+                    return size() > capacity;
+                }
+            }, cache -> {
+                long sum = 0;
+                for (Integer key : keys) {
+                    Integer value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else {
+                        sum += value;
+                    }
+                }
+                return sum;
+            });
+    }
+
+    /**
+     * Runs the lookup workload against a BoundedCache.
+     *
+     * @param harness the harness to run with
+     * @param benchmark the name of the benchmark
+     * @param size the number of lookups
+     * @param keys the keys to look up
+     * @param setup creates an empty cache
+     */
+    private void runCache(Harness harness, String benchmark, int size,
+            Integer[] keys, IntFunction<BoundedCache<Integer, Integer>> setup) {
+        harness.run(name(), benchmark, size, size, setup, cache -> {
+            long sum = 0;
+            for (Integer key : keys) {
+                Integer value = cache.get(key);
+                if (value == null) {
+                    cache.put(key, key);
+                } else {
+                    sum += value;
+                }
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Returns the keys to look up: seven in ten from a skewed hot set and
+     * the rest unique.
+     *
+     * @param size the number of keys
+     * @return the boxed keys
+     */
+    private static Integer[] keys(int size) {
+        Integer[] keys = new Integer[size];
+        Random random = new Random(SEED);
+        int hotSet = Math.max(1, size / 10);
+        int scan = hotSet;
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(10) < 3) {
+                keys[i] = scan++;
+            } else {
+                double skew = Math.pow(random.nextDouble(), 3);
+                keys[i] = (int) (skew * hotSet);
+            }
+        }
+        return keys;
+    }
+}
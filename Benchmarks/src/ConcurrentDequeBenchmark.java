@@ -0,0 +1,188 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Compares the HW 02 {@link LockFreeDeque} against a
+ * {@link DoublyLinkedList} behind a single lock and against
+ * {@link ConcurrentLinkedDeque}, as the number of threads grows from 1 to
+ * the number of available cores.
+ *
+ * Each invocation splits a fixed number of operations between the
+ * threads. Every thread pushes and pops in turn, onto and off alternating
+ * ends, so the deque stays small and every operation contends on its ends.
+ * Starting and joining the threads is part of the timed work, and the
+ * allocation columns only cover the thread that starts them.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class ConcurrentDequeBenchmark implements BenchmarkSuite {
+
+    /**
+     * The operations of a deque under test.
+     */
+    private interface Deque {
+
+        /**
+         * Adds the value to one end.
+         *
+         * @param front whether to add to the front rather than the back
+         * @param value the value to add
+         */
+        void push(boolean front, Integer value);
+
+        /**
+         * Removes a value from one end.
+         *
+         * @param front whether to remove from the front rather than the
+         * back
+         * @return the removed value, or null if the deque was empty
+         */
+        Integer pop(boolean front);
+    }
+
+    @Override
+    public String name() {
+        return "deque";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores;
+                threads = threads == cores ? cores + 1
+                        : Math.min(threads << 1, cores)) {
+            int count = threads;
+            harness.run(name(), "LockFreeDeque(" + count + " threads)", size,
+                size, n -> lockFree(), deque -> churn(deque, keys, count));
+            harness.run(name(), "locked DLL(" + count + " threads)", size,
+                size, n -> locked(), deque -> churn(deque, keys, count));
+            harness.run(name(), "ConcurrentLinkedDeque(" + count
+                + " threads)", size, size, n -> concurrent(),
+                deque -> churn(deque, keys, count));
+        }
+    }
+
+    /**
+     * Returns a LockFreeDeque.
+     *
+     * @return the deque under test
+     */
+    private static Deque lockFree() {
+        LockFreeDeque<Integer> deque = new LockFreeDeque<>();
+        return new Deque() {
+            @Override
+            public void push(boolean front, Integer value) {
+                if (front) {
+                    deque.addToFront(value);
+                } else {
+                    deque.addToBack(value);
+                }
+            }
+
+            @Override
+            public Integer pop(boolean front) {
+                return front ? deque.removeFromFront()
+                        : deque.removeFromBack();
+            }
+        };
+    }
+
+    /**
+     * Returns a DoublyLinkedList guarded by one lock, the way it is shared
+     * today.
+     *
+     * @return the deque under test
+     */
+    private static Deque locked() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        return new Deque() {
+            @Override
+            public synchronized void push(boolean front, Integer value) {
+                if (front) {
+                    list.addToFront(value);
+                } else {
+                    list.addToBack(value);
+                }
+            }
+
+            @Override
+            public synchronized Integer pop(boolean front) {
+                return front ? list.removeFromFront()
+                        : list.removeFromBack();
+            }
+        };
+    }
+
+    /**
+     * Returns a ConcurrentLinkedDeque.
+     *
+     * @return the deque under test
+     */
+    private static Deque concurrent() {
+        ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+        return new Deque() {
+            @Override
+            public void push(boolean front, Integer value) {
+                if (front) {
+                    deque.addFirst(value);
+                } else {
+                    deque.addLast(value);
+                }
+            }
+
+            @Override
+            public Integer pop(boolean front) {
+                return front ? deque.pollFirst() : deque.pollLast();
+            }
+        };
+    }
+
+    /**
+     * Splits the keys between the threads, each of which pushes and pops
+     * its share.
+     *
+     * @param deque the deque to share
+     * @param keys the keys to push
+     * @param threads the number of threads
+     * @return the sum of the popped values
+     */
+    private static long churn(Deque deque, Integer[] keys, int threads) {
+        long[] sums = new long[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                long sum = 0;
+                for (int i = id; i < keys.length; i += threads) {
+                    boolean front = (i & 2) == 0;
+                    if ((i & 1) == 0) {
+                        deque.push(front, keys[i]);
+                    } else {
+                        Integer value = deque.pop(!front);
+                        if (value != null) {
+                            sum += value;
+                        }
+                    }
+                }
+                sums[id] = sum;
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        long sum = 0;
+        for (int t = 0; t < threads; t++) {
+            try {
+                workers.get(t).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            sum += sums[t];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Compares the HW 02 {@link NumberTheory} gcd routines against
+ * {@link Recursion#gcd(int, int)} and {@link BigInteger#gcd(BigInteger)},
+ * on random pairs of ints, and reduces a whole array with the batch gcd.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class GcdBenchmark implements BenchmarkSuite {
+    private static final long SEED = 1332;
+
+    @Override
+    public String name() {
+        return "gcd";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Random random = new Random(SEED);
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        BigInteger[] bigXs = new BigInteger[size];
+        BigInteger[] bigYs = new BigInteger[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = random.nextInt(Integer.MAX_VALUE);
+            ys[i] = random.nextInt(Integer.MAX_VALUE);
+            bigXs[i] = BigInteger.valueOf(xs[i]);
+            bigYs[i] = BigInteger.valueOf(ys[i]);
+        }
+
+        harness.run(name(), "Recursion.gcd", size, size, n -> xs, x -> {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += Recursion.gcd(x[i], ys[i]);
+            }
+            return sum;
+        });
+        harness.run(name(), "NumberTheory.euclidGcd", size, size, n -> xs,
+            x -> {
+                long sum = 0;
+                for (int i = 0; i < size; i++) {
+                    sum += NumberTheory.euclidGcd(x[i], ys[i]);
+                }
+                return sum;
+            });
+        harness.run(name(), "NumberTheory.gcd", size, size, n -> xs, x -> {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += NumberTheory.gcd(x[i], ys[i]);
+            }
+            return sum;
+        });
+        harness.run(name(), "BigInteger.gcd", size, size, n -> bigXs, x -> {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += x[i].gcd(bigYs[i]).longValue();
+            }
+            return sum;
+        });
+
+        int[] multiples = new int[size];
+        for (int i = 0; i < size; i++) {
+            multiples[i] = 6 * (1 + random.nextInt(Integer.MAX_VALUE / 6));
+        }
+        harness.run(name(), "NumberTheory.gcd(int[])", size, size,
+            n -> multiples, NumberTheory::gcd);
+    }
+}
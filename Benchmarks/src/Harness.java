@@ -0,0 +1,170 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A small benchmark harness in the spirit of JMH.
+ *
+ * Every benchmark runs a number of warmup iterations followed by measured
+ * iterations of a fixed length. In each iteration the benchmark body is
+ * invoked repeatedly on fresh state from its setup function. Only the body
+ * is timed. Allocation is measured per thread around the body, the same way
+ * the JMH GC profiler does, and reported as both a rate and bytes per
+ * operation.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class Harness {
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threads;
+    private final List<GarbageCollectorMXBean> collectors;
+
+    /**
+     * Creates a harness.
+     *
+     * @param warmupIterations the number of unmeasured iterations
+     * @param measurementIterations the number of measured iterations
+     * @param iterationMillis the length of each iteration in milliseconds
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public Harness(int warmupIterations, int measurementIterations,
+            long iterationMillis) {
+        if (warmupIterations < 0 || measurementIterations <= 0
+                || iterationMillis <= 0) {
+            throw new IllegalArgumentException("Iteration counts and length"
+                    + " must be positive");
+        }
+
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.threads = (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Prints the header of the result table.
+     */
+    public static void printHeader() {
+        System.out.println(String.format(Locale.ROOT,
+                "%-14s %-36s %10s %16s %12s %12s %12s %6s",
+                "Suite", "Benchmark", "Size", "ops/s", "error",
+                "alloc MB/s", "alloc B/op", "gc"));
+    }
+
+    /**
+     * Keeps a benchmark result alive so the JIT cannot remove the work that
+     * produced it.
+     *
+     * @param result the value to consume
+     */
+    public static void consume(Object result) {
+        sink = result;
+    }
+
+    /**
+     * Runs one benchmark and prints a row of the result table.
+     *
+     * @param suite the name of the suite the benchmark belongs to
+     * @param name the name of the benchmark
+     * @param size the problem size passed to setup
+     * @param operations the number of operations one body invocation does
+     * @param setup creates fresh state for one invocation, untimed
+     * @param body the timed work, whose result is consumed
+     * @param <S> the type of the state
+     */
+    public <S> void run(String suite, String name, int size, long operations,
+            IntFunction<S> setup, Function<S, Object> body) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(size, setup, body);
+        }
+
+        double[] opsPerSecond = new double[measurementIterations];
+        long allocated = 0;
+        long gcCount = 0;
+        long invocations = 0;
+        long elapsed = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long gcBefore = collectionCount();
+            long[] result = iteration(size, setup, body);
+            gcCount += collectionCount() - gcBefore;
+            invocations += result[0];
+            elapsed += result[1];
+            allocated += result[2];
+            opsPerSecond[i] = result[0] * operations * 1e9 / result[1];
+        }
+
+        double mean = 0;
+        for (double score : opsPerSecond) {
+            mean += score;
+        }
+        mean /= measurementIterations;
+        double variance = 0;
+        for (double score : opsPerSecond) {
+            variance += (score - mean) * (score - mean);
+        }
+        double error = measurementIterations > 1
+                ? Math.sqrt(variance / (measurementIterations - 1)) : 0;
+        double allocRate = allocated / (elapsed / 1e9) / (1024 * 1024);
+        double allocPerOp = (double) allocated / (invocations * operations);
+
+        System.out.println(String.format(Locale.ROOT,
+                "%-14s %-36s %10d %16.1f %12.1f %12.1f %12.2f %6d",
+                suite, name, size, mean, error, allocRate, allocPerOp,
+                gcCount));
+    }
+
+    /**
+     * Runs the body repeatedly until the iteration length has passed.
+     *
+     * @param size the problem size passed to setup
+     * @param setup creates fresh state for one invocation
+     * @param body the timed work
+     * @param <S> the type of the state
+     * @return the number of invocations, the nanoseconds spent in the body,
+     * and the bytes the body allocated
+     */
+    private <S> long[] iteration(int size, IntFunction<S> setup,
+            Function<S, Object> body) {
+        long threadId = Thread.currentThread().getId();
+        long invocations = 0;
+        long elapsed = 0;
+        long allocated = 0;
+        long deadline = System.nanoTime() + iterationNanos;
+        do {
+            S state = setup.apply(size);
+            long allocBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            consume(body.apply(state));
+            long end = System.nanoTime();
+            allocated += threads.getThreadAllocatedBytes(threadId)
+                    - allocBefore;
+            elapsed += end - start;
+            invocations++;
+        } while (System.nanoTime() < deadline);
+        return new long[] {invocations, Math.max(elapsed, 1), allocated};
+    }
+
+    /**
+     * Returns the total number of collections run by every collector.
+     *
+     * @return the total collection count
+     */
+    private long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Compares the HW 06 {@link HashMap} against {@link java.util.HashMap}.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class HashMapBenchmark implements BenchmarkSuite {
+
+    @Override
+    public String name() {
+        return "hashmap";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.shuffledKeys(size);
+
+        harness.run(name(), "HashMap.put", size, size,
+            n -> new HashMap<Integer, Integer>(), map -> {
+                for (Integer key : keys) {
+                    map.put(key, key);
+                }
+                return map;
+            });
+        harness.run(name(), "java.util.HashMap.put", size, size,
+            n -> new java.util.HashMap<Integer, Integer>(), map -> {
+                for (Integer key : keys) {
+                    map.put(key, key);
+                }
+                return map;
+            });
+
+        HashMap<Integer, Integer> hashMap = new HashMap<>();
+        java.util.HashMap<Integer, Integer> javaHashMap =
+                new java.util.HashMap<>();
+        for (Integer key : keys) {
+            hashMap.put(key, key);
+            javaHashMap.put(key, key);
+        }
+        harness.run(name(), "HashMap.get", size, size, n -> hashMap, map -> {
+            long sum = 0;
+            for (Integer key : keys) {
+                sum += map.get(key);
+            }
+            return sum;
+        });
+        harness.run(name(), "java.util.HashMap.get", size, size,
+            n -> javaHashMap, map -> {
+                long sum = 0;
+                for (Integer key : keys) {
+                    sum += map.get(key);
+                }
+                return sum;
+            });
+    }
+}
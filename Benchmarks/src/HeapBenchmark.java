@@ -0,0 +1,58 @@
+import java.util.PriorityQueue;
+
+/**
+ * Compares the HW 05 {@link MinHeap} against {@link PriorityQueue}.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class HeapBenchmark implements BenchmarkSuite {
+
+    @Override
+    public String name() {
+        return "heap";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.shuffledKeys(size);
+
+        harness.run(name(), "MinHeap.add", size, size,
+            n -> new MinHeap<Integer>(), heap -> {
+                for (Integer key : keys) {
+                    heap.add(key);
+                }
+                return heap;
+            });
+        harness.run(name(), "PriorityQueue.offer", size, size,
+            n -> new PriorityQueue<Integer>(), heap -> {
+                for (Integer key : keys) {
+                    heap.offer(key);
+                }
+                return heap;
+            });
+
+        harness.run(name(), "MinHeap.remove", size, size,
+            n -> {
+                MinHeap<Integer> heap = new MinHeap<>();
+                for (Integer key : keys) {
+                    heap.add(key);
+                }
+                return heap;
+            }, heap -> {
+                long sum = 0;
+                while (!heap.isEmpty()) {
+                    sum += heap.remove();
+                }
+                return sum;
+            });
+        harness.run(name(), "PriorityQueue.poll", size, size,
+            n -> new PriorityQueue<>(java.util.Arrays.asList(keys)), heap -> {
+                long sum = 0;
+                while (!heap.isEmpty()) {
+                    sum += heap.poll();
+                }
+                return sum;
+            });
+    }
+}
@@ -0,0 +1,143 @@
+import java.util.LinkedList;
+
+/**
+ * Compares the HW 02 {@link DoublyLinkedList} against {@link LinkedList}.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class LinkedListBenchmark implements BenchmarkSuite {
+    private static final int CHURN_OPERATIONS = 1_000;
+
+    @Override
+    public String name() {
+        return "linkedlist";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+
+        harness.run(name(), "DoublyLinkedList.addToBack", size, size,
+            n -> new DoublyLinkedList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.addToBack(key);
+                }
+                return list;
+            });
+        harness.run(name(), "LinkedList.addLast", size, size,
+            n -> new LinkedList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.addLast(key);
+                }
+                return list;
+            });
+
+        harness.run(name(), "DoublyLinkedList.addToFront", size, size,
+            n -> new DoublyLinkedList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.addToFront(key);
+                }
+                return list;
+            });
+        harness.run(name(), "LinkedList.addFirst", size, size,
+            n -> new LinkedList<Integer>(), list -> {
+                for (Integer key : keys) {
+                    list.addFirst(key);
+                }
+                return list;
+            });
+
+        harness.run(name(), "DoublyLinkedList.iterate", size, size,
+            n -> filled(keys, false), list -> {
+                long sum = 0;
+                for (Integer data : list) {
+                    sum += data;
+                }
+                return sum;
+            });
+        harness.run(name(), "LinkedList.iterate", size, size,
+            n -> new LinkedList<>(java.util.Arrays.asList(keys)), list -> {
+                long sum = 0;
+                for (Integer data : list) {
+                    sum += data;
+                }
+                return sum;
+            });
+
+        harness.run(name(), "DoublyLinkedList.removeFromFront", size, size,
+            n -> filled(keys, false), list -> {
+                long sum = 0;
+                while (!list.isEmpty()) {
+                    sum += list.removeFromFront();
+                }
+                return sum;
+            });
+        harness.run(name(), "LinkedList.removeFirst", size, size,
+            n -> new LinkedList<>(java.util.Arrays.asList(keys)), list -> {
+                long sum = 0;
+                while (!list.isEmpty()) {
+                    sum += list.removeFirst();
+                }
+                return sum;
+            });
+
+        harness.run(name(), "DoublyLinkedList.transferLoop", size, size,
+            n -> filled(keys, false), list -> {
+                DoublyLinkedList<Integer> target = new DoublyLinkedList<>();
+                while (!list.isEmpty()) {
+                    target.addToBack(list.removeFromFront());
+                }
+                return target;
+            });
+        harness.run(name(), "DoublyLinkedList.appendAll", size, size,
+            n -> filled(keys, false), list -> {
+                DoublyLinkedList<Integer> target = new DoublyLinkedList<>();
+                target.appendAll(list);
+                return target;
+            });
+
+        Integer[] churn = Workloads.shuffledKeys(size);
+        int touched = Math.min(size, CHURN_OPERATIONS);
+        harness.run(name(), "DoublyLinkedList.churn", size,
+            touched, n -> filled(keys, false), list -> churn(list, churn,
+                touched));
+        harness.run(name(), "indexed.churn", size,
+            touched, n -> filled(keys, true), list -> churn(list, churn,
+                touched));
+    }
+
+    /**
+     * Removes arbitrary elements and adds them back at the end, the way a
+     * list of live sessions is touched.
+     *
+     * @param list the list to churn
+     * @param order the elements to remove, in order
+     * @param count the number of elements to remove and re-add
+     * @return the list
+     */
+    private static DoublyLinkedList<Integer> churn(
+            DoublyLinkedList<Integer> list, Integer[] order, int count) {
+        for (int i = 0; i < count; i++) {
+            list.removeFirstOccurrence(order[i]);
+            list.addToBack(order[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Returns a DoublyLinkedList holding the given keys.
+     *
+     * @param keys the keys to add
+     * @param indexed whether the list keeps a value index
+     * @return the filled list
+     */
+    private static DoublyLinkedList<Integer> filled(Integer[] keys,
+            boolean indexed) {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(indexed);
+        for (Integer key : keys) {
+            list.addToBack(key);
+        }
+        return list;
+    }
+}
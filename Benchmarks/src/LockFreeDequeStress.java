@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Multi-threaded stress test for the HW 02 {@link LockFreeDeque}.
+ *
+ * Worker threads push unique values onto random ends and pop from random
+ * ends, while an observer thread keeps reading the size and iterating.
+ * Afterwards every value that was pushed must have been popped or still
+ * be in the deque exactly once, and the size must match. Exits with status
+ * 1 on the first failure.
+ *
+ * Usage: {@code java LockFreeDequeStress [threads] [operations] [rounds]}
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class LockFreeDequeStress {
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private LockFreeDequeStress() {
+    }
+
+    /**
+     * Runs the stress test.
+     *
+     * @param args optional thread count, operations per thread and rounds
+     * @throws Exception if a worker thread is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0])
+                : Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        int operations = args.length > 1 ? Integer.parseInt(args[1])
+                : 1_000_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        for (int round = 1; round <= rounds; round++) {
+            String failure = round(threads, operations);
+            if (failure != null) {
+                System.out.println("Round " + round + " FAILED: " + failure);
+                System.exit(1);
+            }
+            System.out.println("Round " + round + " passed: " + threads
+                    + " threads x " + operations + " operations");
+        }
+    }
+
+    /**
+     * Runs one round of the stress test.
+     *
+     * @param threads the number of worker threads
+     * @param operations the number of operations per worker
+     * @return a description of the first failure, or null if the round
+     * passed
+     * @throws Exception if a worker thread is interrupted
+     */
+    private static String round(int threads, int operations)
+            throws Exception {
+        LockFreeDeque<Integer> deque = new LockFreeDeque<>();
+        List<List<Integer>> popped = new ArrayList<>();
+        int[] pushed = new int[threads];
+        CyclicBarrier start = new CyclicBarrier(threads + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<String> failures = new ArrayList<>();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            List<Integer> mine = new ArrayList<>();
+            popped.add(mine);
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int sequence = 0;
+                await(start);
+                for (int i = 0; i < operations; i++) {
+                    int choice = random.nextInt(4);
+                    if (choice < 2) {
+                        Integer value = id * operations + sequence++;
+                        if (choice == 0) {
+                            deque.addToFront(value);
+                        } else {
+                            deque.addToBack(value);
+                        }
+                    } else {
+                        Integer value = choice == 2 ? deque.removeFromFront()
+                                : deque.removeFromBack();
+                        if (value != null) {
+                            mine.add(value);
+                        }
+                    }
+                }
+                pushed[id] = sequence;
+            }));
+        }
+        Thread observer = new Thread(() -> {
+            await(start);
+            while (running.get()) {
+                int size = deque.size();
+                if (size < 0) {
+                    record(failures, "negative size " + size);
+                }
+                Set<Integer> seen = new HashSet<>();
+                for (Integer value : deque) {
+                    if (!seen.add(value)) {
+                        record(failures, "iterator repeated " + value);
+                    }
+                }
+            }
+        });
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        observer.start();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        running.set(false);
+        observer.join();
+        if (!failures.isEmpty()) {
+            return failures.get(0);
+        }
+
+        int remaining = deque.size();
+        BitSet seen = new BitSet(threads * operations);
+        int total = 0;
+        for (List<Integer> values : popped) {
+            for (Integer value : values) {
+                if (seen.get(value)) {
+                    return "value " + value + " was popped twice";
+                }
+                seen.set(value);
+                total++;
+            }
+        }
+        for (Object value : deque.toArray()) {
+            int v = (Integer) value;
+            if (seen.get(v)) {
+                return "value " + v + " was popped but is still there";
+            }
+            seen.set(v);
+            total++;
+        }
+        int expected = 0;
+        for (int t = 0; t < threads; t++) {
+            expected += pushed[t];
+            for (int i = 0; i < pushed[t]; i++) {
+                if (!seen.get(t * operations + i)) {
+                    return "value " + (t * operations + i) + " was lost";
+                }
+            }
+        }
+        if (total != expected) {
+            return "expected " + expected + " values but found " + total;
+        } else if (total - countPopped(popped) != remaining) {
+            return "size " + remaining + " does not match the contents";
+        }
+        while (deque.removeFromBack() != null) {
+            remaining--;
+        }
+        return remaining == 0 && deque.isEmpty() && deque.size() == 0 ? null
+                : "size is " + deque.size() + " after draining";
+    }
+
+    /**
+     * Returns how many values the workers popped.
+     *
+     * @param popped the values each worker popped
+     * @return the total number of values
+     */
+    private static int countPopped(List<List<Integer>> popped) {
+        int count = 0;
+        for (List<Integer> values : popped) {
+            count += values.size();
+        }
+        return count;
+    }
+
+    /**
+     * Records a failure seen by the observer thread.
+     *
+     * @param failures the failures so far
+     * @param failure a description of the failure
+     */
+    private static void record(List<String> failures, String failure) {
+        synchronized (failures) {
+            failures.add(failure);
+        }
+    }
+
+    /**
+     * Waits for every thread to reach the barrier.
+     *
+     * @param barrier the barrier to wait on
+     */
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+import java.util.Random;
+
+/**
+ * Compares {@link Recursion#isPalindrome(String)} against the iterative
+ * {@link Palindromes} checkers on a palindrome of the given length, and
+ * times the Manacher longest-palindrome and palindrome-count scans.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class PalindromeBenchmark implements BenchmarkSuite {
+    private static final long SEED = 1332;
+
+    @Override
+    public String name() {
+        return "palindrome";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Random random = new Random(SEED);
+        char[] chars = new char[size];
+        for (int i = 0, j = size - 1; i <= j; i++, j--) {
+            chars[i] = (char) ('a' + random.nextInt(2));
+            chars[j] = chars[i];
+        }
+        String text = new String(chars);
+
+        harness.run(name(), "Recursion.isPalindrome", size, size, n -> text,
+            Recursion::isPalindrome);
+        harness.run(name(), "Palindromes.isPalindrome(CharSequence)", size,
+            size, n -> text, Palindromes::isPalindrome);
+        harness.run(name(), "Palindromes.isPalindrome(char[])", size, size,
+            n -> chars, Palindromes::isPalindrome);
+        harness.run(name(), "Palindromes.longestPalindrome", size, size,
+            n -> text, Palindromes::longestPalindrome);
+        harness.run(name(), "Palindromes.countPalindromes", size, size,
+            n -> text, Palindromes::countPalindromes);
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares a recursive quicksort run sequentially by the HW 08
+ * {@link Sorting#quickSort(Object[], Comparator, Random)}, in parallel on
+ * the HW 03 {@link WorkStealingScheduler}, and in parallel on a
+ * {@link ForkJoinPool} with the same number of threads.
+ *
+ * Both parallel versions partition the same way Sorting does, fork one
+ * side and recurse into the other, and switch to a sequential quicksort
+ * below {@code CUTOFF} elements. Each invocation sorts a fresh copy of the
+ * same shuffled keys. Run with {@code --sizes=10000000} for the 10^7
+ * element case.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class ParallelSortBenchmark implements BenchmarkSuite {
+    private static final int CUTOFF = 1 << 13;
+    private static final long SEED = 1332;
+    private static final Comparator<Integer> ORDER = Integer::compare;
+
+    @Override
+    public String name() {
+        return "parallelsort";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.shuffledKeys(size);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+
+        harness.run(name(), "Sorting.quickSort", size, size,
+            n -> keys.clone(), arr -> {
+                Sorting.quickSort(arr, ORDER, new Random(SEED));
+                return arr[0];
+            });
+        try (WorkStealingScheduler scheduler =
+                new WorkStealingScheduler(parallelism)) {
+            harness.run(name(), "WorkStealingScheduler(" + parallelism
+                + " threads)", size, size, n -> keys.clone(), arr -> {
+                    scheduler.invoke(new SchedulerSort(arr, 0, arr.length - 1));
+                    return arr[0];
+                });
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            harness.run(name(), "ForkJoinPool(" + parallelism + " threads)",
+                size, size, n -> keys.clone(), arr -> {
+                    pool.invoke(new ForkJoinSort(arr, 0, arr.length - 1));
+                    return arr[0];
+                });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sorts a range of the array on a WorkStealingScheduler.
+     */
+    private static final class SchedulerSort
+            extends WorkStealingScheduler.Task {
+        private final Integer[] arr;
+        private final int low;
+        private final int high;
+
+        /**
+         * Creates a task for a range of the array.
+         *
+         * @param arr the array to sort
+         * @param low the first index, inclusive
+         * @param high the last index, inclusive
+         */
+        private SchedulerSort(Integer[] arr, int low, int high) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < CUTOFF) {
+                sequential(arr, low, high);
+            } else {
+                int p = partition(arr, low, high);
+                invokeAll(new SchedulerSort(arr, low, p - 1),
+                    new SchedulerSort(arr, p + 1, high));
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of the array on a ForkJoinPool.
+     */
+    private static final class ForkJoinSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Integer[] arr;
+        private final int low;
+        private final int high;
+
+        /**
+         * Creates a task for a range of the array.
+         *
+         * @param arr the array to sort
+         * @param low the first index, inclusive
+         * @param high the last index, inclusive
+         */
+        private ForkJoinSort(Integer[] arr, int low, int high) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < CUTOFF) {
+                sequential(arr, low, high);
+            } else {
+                int p = partition(arr, low, high);
+                invokeAll(new ForkJoinSort(arr, low, p - 1),
+                    new ForkJoinSort(arr, p + 1, high));
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of the array with a sequential recursive quicksort.
+     *
+     * @param arr the array to sort
+     * @param low the first index, inclusive
+     * @param high the last index, inclusive
+     */
+    private static void sequential(Integer[] arr, int low, int high) {
+        if (low < high) {
+            int p = partition(arr, low, high);
+            sequential(arr, low, p - 1);
+            sequential(arr, p + 1, high);
+        }
+    }
+
+    /**
+     * Partitions a range of the array around a random pivot, the same way
+     * {@link Sorting} does.
+     *
+     * @param arr the array to partition
+     * @param low the first index, inclusive
+     * @param high the last index, inclusive
+     * @return the final index of the pivot
+     */
+    private static int partition(Integer[] arr, int low, int high) {
+        int pivot = ThreadLocalRandom.current().nextInt(high + 1 - low) + low;
+        swap(arr, low, pivot);
+        int i = low + 1;
+        int j = high;
+        while (i <= j) {
+            while (i <= j && ORDER.compare(arr[i], arr[low]) <= 0) {
+                i++;
+            }
+            while (i <= j && ORDER.compare(arr[j], arr[low]) >= 0) {
+                j--;
+            }
+            if (i <= j) {
+                swap(arr, i, j);
+                i++;
+                j--;
+            }
+        }
+        swap(arr, low, j);
+        return j;
+    }
+
+    /**
+     * Swaps two elements of the array.
+     *
+     * @param arr the array
+     * @param i the index of the first element
+     * @param j the index of the second element
+     */
+    private static void swap(Integer[] arr, int i, int j) {
+        Integer temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the HW 03 {@link ArrayQueue}, {@link RingBufferQueue},
+ * {@link SpscRingQueue}, {@link LinkedQueue} and
+ * {@link SegmentedLinkedQueue} against {@link ArrayDeque}. Each invocation
+ * enqueues every key and then dequeues them all, which counts as two
+ * operations per key. The batch run moves the keys with enqueueAll and
+ * drainTo instead. The SPSC queue runs on one thread here; see
+ * {@link SpscLatencyBenchmark} for its cross-thread handoff.
+ *
+ * The steady runs start from a queue already holding {@code BACKLOG} keys
+ * and then enqueue one key and dequeue one per step, the way a pipeline
+ * runs, so their allocation columns show the per-message garbage.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class QueueBenchmark implements BenchmarkSuite {
+    private static final int BACKLOG = 4096;
+
+    @Override
+    public String name() {
+        return "queue";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+
+        harness.run(name(), "ArrayQueue.enqueue+dequeue", size, 2L * size,
+            n -> new ArrayQueue<Integer>(), queue -> drain(queue, keys));
+        harness.run(name(), "RingBufferQueue.enqueue+dequeue", size,
+            2L * size, n -> new RingBufferQueue<Integer>(),
+            queue -> drain(queue, keys));
+        List<Integer> batch = Arrays.asList(keys);
+        harness.run(name(), "RingBufferQueue.enqueueAll+drainTo", size,
+            2L * size, n -> new RingBufferQueue<Integer>(), queue -> {
+                queue.enqueueAll(batch);
+                long[] sum = new long[1];
+                queue.drainTo(key -> sum[0] += key, Integer.MAX_VALUE);
+                return sum[0];
+            });
+        harness.run(name(), "SpscRingQueue.enqueue+dequeue", size,
+            2L * size, n -> new SpscRingQueue<Integer>(n),
+            queue -> drain(queue, keys));
+        harness.run(name(), "LinkedQueue.enqueue+dequeue", size, 2L * size,
+            n -> new LinkedQueue<Integer>(), queue -> drain(queue, keys));
+        harness.run(name(), "SegmentedLinkedQueue.enqueue+dequeue", size,
+            2L * size, n -> new SegmentedLinkedQueue<Integer>(),
+            queue -> drain(queue, keys));
+        harness.run(name(), "LinkedQueue.steady", size, 2L * size,
+            n -> backlogged(new LinkedQueue<Integer>(), keys),
+            queue -> steady(queue, keys));
+        harness.run(name(), "SegmentedLinkedQueue.steady", size, 2L * size,
+            n -> backlogged(new SegmentedLinkedQueue<Integer>(), keys),
+            queue -> steady(queue, keys));
+        harness.run(name(), "ArrayDeque.offer+poll", size, 2L * size,
+            n -> new ArrayDeque<Integer>(), queue -> {
+                for (Integer key : keys) {
+                    queue.offer(key);
+                }
+                long sum = 0;
+                while (!queue.isEmpty()) {
+                    sum += queue.poll();
+                }
+                return sum;
+            });
+    }
+
+    /**
+     * Enqueues every key and then dequeues them all.
+     *
+     * @param queue the queue to use
+     * @param keys the keys to enqueue
+     * @return the sum of the dequeued keys
+     */
+    private static long drain(QueueInterface<Integer> queue, Integer[] keys) {
+        for (Integer key : keys) {
+            queue.enqueue(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    /**
+     * Fills the queue with a backlog of keys.
+     *
+     * @param queue the queue to fill
+     * @param keys the keys to take the backlog from
+     * @return the queue
+     */
+    private static QueueInterface<Integer> backlogged(
+            QueueInterface<Integer> queue, Integer[] keys) {
+        for (int i = 0; i < BACKLOG; i++) {
+            queue.enqueue(keys[i % keys.length]);
+        }
+        return queue;
+    }
+
+    /**
+     * Enqueues each key and dequeues one element right after it, so the
+     * length of the queue stays the same.
+     *
+     * @param queue the queue to use
+     * @param keys the keys to enqueue
+     * @return the sum of the dequeued keys
+     */
+    private static long steady(QueueInterface<Integer> queue, Integer[] keys) {
+        long sum = 0;
+        for (Integer key : keys) {
+            queue.enqueue(key);
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Compares positional access on the walk-based {@link DoublyLinkedList}
+ * against the {@link IndexableSkipList}. Every invocation does a fixed
+ * number of operations at random indices on a prebuilt list, so large lists
+ * can be measured without building them over and over. Adds are paired with
+ * removes so the list keeps its size.
+ *
+ * Run with {@code --sizes=1000000} for the headline comparison.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class SkipListBenchmark implements BenchmarkSuite {
+    private static final int OPERATIONS = 1_000;
+
+    @Override
+    public String name() {
+        return "skiplist";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.sequentialKeys(size);
+        int[] indices = Workloads.randomIndices(OPERATIONS, size);
+
+        DoublyLinkedList<Integer> linked = new DoublyLinkedList<>();
+        IndexableSkipList<Integer> skipList = new IndexableSkipList<>();
+        for (Integer key : keys) {
+            linked.addToBack(key);
+            skipList.addToBack(key);
+        }
+
+        harness.run(name(), "DoublyLinkedList.get", size, OPERATIONS,
+            n -> linked, list -> get(list, indices));
+        harness.run(name(), "IndexableSkipList.get", size, OPERATIONS,
+            n -> skipList, list -> get(list, indices));
+
+        harness.run(name(), "DoublyLinkedList.add+removeAtIndex", size,
+            2L * OPERATIONS, n -> linked, list -> addRemove(list, indices));
+        harness.run(name(), "IndexableSkipList.add+removeAtIndex", size,
+            2L * OPERATIONS, n -> skipList, list -> addRemove(list, indices));
+    }
+
+    /**
+     * Reads the element at every index.
+     *
+     * @param list the list to read
+     * @param indices the indices to read
+     * @return the sum of the elements read
+     */
+    private static long get(LinkedListInterface<Integer> list,
+            int[] indices) {
+        long sum = 0;
+        for (int index : indices) {
+            sum += list.get(index);
+        }
+        return sum;
+    }
+
+    /**
+     * Adds an element at every index and then removes it again.
+     *
+     * @param list the list to change
+     * @param indices the indices to add and remove at
+     * @return the sum of the elements removed
+     */
+    private static long addRemove(LinkedListInterface<Integer> list,
+            int[] indices) {
+        long sum = 0;
+        for (int index : indices) {
+            list.addAtIndex(index, index);
+            sum += list.removeAtIndex(index);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Measures the one-way latency of handing messages from a producer thread
+ * to a consumer thread through the HW 03 {@link SpscRingQueue}, through an
+ * {@link ArrayQueue} guarded by synchronized, and through
+ * {@link ArrayBlockingQueue}.
+ *
+ * The producer sends at a fixed rate. Each message's latency runs from the
+ * moment it was scheduled to be sent, not the moment it actually was, so a
+ * stall on the producer side is counted against every message it delays.
+ * The p50, p99, p99.9 and maximum latencies are printed for each queue
+ * after an unmeasured warmup run.
+ *
+ * Usage: {@code java SpscLatencyBenchmark [messages] [messages per second]}
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class SpscLatencyBenchmark {
+    private static final int CAPACITY = 1024;
+    private static final int WARMUP_MESSAGES = 100_000;
+
+    /**
+     * The queue operations a run needs, so each queue can be driven by the
+     * same loops.
+     */
+    private interface Channel {
+        /**
+         * Sends a message if there is room.
+         *
+         * @param message the message to send
+         * @return true if the message was sent
+         */
+        boolean offer(Integer message);
+
+        /**
+         * Receives a message if there is one.
+         *
+         * @return the message, or null if none is waiting
+         */
+        Integer poll();
+    }
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private SpscLatencyBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional message count and send rate
+     * @throws InterruptedException if the producer thread is interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rate = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        Integer[] keys = Workloads.sequentialKeys(messages);
+        Integer[] warmup = Arrays.copyOf(keys,
+                Math.min(messages, WARMUP_MESSAGES));
+
+        System.out.printf("%-28s %10s %12s %12s %12s %12s%n", "Queue",
+                "Messages", "p50 us", "p99 us", "p99.9 us", "max us");
+        for (String name : Arrays.asList("SpscRingQueue",
+                "synchronized ArrayQueue", "ArrayBlockingQueue")) {
+            run(channel(name), warmup, rate);
+            long[] latencies = run(channel(name), keys, rate);
+            Arrays.sort(latencies);
+            System.out.printf("%-28s %10d %12.2f %12.2f %12.2f %12.2f%n",
+                    name, messages, micros(percentile(latencies, 0.50)),
+                    micros(percentile(latencies, 0.99)),
+                    micros(percentile(latencies, 0.999)),
+                    micros(latencies[latencies.length - 1]));
+        }
+    }
+
+    /**
+     * Returns a new, empty channel backed by the named queue.
+     *
+     * @param name the name of the queue
+     * @return the channel
+     */
+    private static Channel channel(String name) {
+        switch (name) {
+            case "SpscRingQueue":
+                SpscRingQueue<Integer> ring = new SpscRingQueue<>(CAPACITY);
+                return new Channel() {
+                    @Override
+                    public boolean offer(Integer message) {
+                        return ring.offer(message);
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        return ring.poll();
+                    }
+                };
+            case "synchronized ArrayQueue":
+                ArrayQueue<Integer> locked = new ArrayQueue<>();
+                return new Channel() {
+                    @Override
+                    public boolean offer(Integer message) {
+                        synchronized (locked) {
+                            if (locked.size() >= CAPACITY) {
+                                return false;
+                            }
+                            locked.enqueue(message);
+                            return true;
+                        }
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        synchronized (locked) {
+                            return locked.isEmpty() ? null : locked.dequeue();
+                        }
+                    }
+                };
+            default:
+                ArrayBlockingQueue<Integer> blocking =
+                        new ArrayBlockingQueue<>(CAPACITY);
+                return new Channel() {
+                    @Override
+                    public boolean offer(Integer message) {
+                        return blocking.offer(message);
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        return blocking.poll();
+                    }
+                };
+        }
+    }
+
+    /**
+     * Sends messages through the channel at the given rate and returns the
+     * latency of each one.
+     *
+     * @param channel the channel to use
+     * @param keys the messages, which are also their sequence numbers
+     * @param rate the number of messages to send per second
+     * @return the latency of each message in nanoseconds
+     * @throws InterruptedException if the producer thread is interrupted
+     */
+    private static long[] run(Channel channel, Integer[] keys, int rate)
+            throws InterruptedException {
+        long[] scheduled = new long[keys.length];
+        long[] latencies = new long[keys.length];
+        long interval = 1_000_000_000L / rate;
+        long start = System.nanoTime() + 1_000_000;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < keys.length; i++) {
+                long due = start + i * interval;
+                scheduled[i] = due;
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                while (!channel.offer(keys[i])) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int received = 0; received < keys.length;) {
+            Integer message = channel.poll();
+            if (message == null) {
+                Thread.onSpinWait();
+            } else {
+                latencies[message] = System.nanoTime() - scheduled[message];
+                received++;
+            }
+        }
+        producer.join();
+        return latencies;
+    }
+
+    /**
+     * Returns the value at the given quantile of sorted latencies.
+     *
+     * @param sorted the latencies in increasing order
+     * @param quantile the quantile, between 0 and 1
+     * @return the latency at that quantile
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     *
+     * @param nanos the time in nanoseconds
+     * @return the time in microseconds
+     */
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
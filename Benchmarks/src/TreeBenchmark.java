@@ -0,0 +1,70 @@
+import java.util.TreeSet;
+
+/**
+ * Compares the HW 04 {@link BST} and HW 07 {@link AVL} against
+ * {@link TreeSet}. Keys are inserted in random order so the unbalanced BST
+ * stays at its expected O(log n) height.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class TreeBenchmark implements BenchmarkSuite {
+
+    @Override
+    public String name() {
+        return "tree";
+    }
+
+    @Override
+    public void run(Harness harness, int size) {
+        Integer[] keys = Workloads.shuffledKeys(size);
+
+        harness.run(name(), "BST.add", size, size,
+            n -> new BST<Integer>(), tree -> {
+                for (Integer key : keys) {
+                    tree.add(key);
+                }
+                return tree;
+            });
+        harness.run(name(), "AVL.add", size, size,
+            n -> new AVL<Integer>(), tree -> {
+                for (Integer key : keys) {
+                    tree.add(key);
+                }
+                return tree;
+            });
+        harness.run(name(), "TreeSet.add", size, size,
+            n -> new TreeSet<Integer>(), tree -> {
+                for (Integer key : keys) {
+                    tree.add(key);
+                }
+                return tree;
+            });
+
+        BST<Integer> bst = new BST<>(java.util.Arrays.asList(keys));
+        AVL<Integer> avl = new AVL<>(java.util.Arrays.asList(keys));
+        TreeSet<Integer> treeSet = new TreeSet<>(java.util.Arrays.asList(keys));
+        harness.run(name(), "BST.contains", size, size, n -> bst, tree -> {
+            int found = 0;
+            for (Integer key : keys) {
+                found += tree.contains(key) ? 1 : 0;
+            }
+            return found;
+        });
+        harness.run(name(), "AVL.contains", size, size, n -> avl, tree -> {
+            int found = 0;
+            for (Integer key : keys) {
+                found += tree.contains(key) ? 1 : 0;
+            }
+            return found;
+        });
+        harness.run(name(), "TreeSet.contains", size, size, n -> treeSet,
+            tree -> {
+                int found = 0;
+                for (Integer key : keys) {
+                    found += tree.contains(key) ? 1 : 0;
+                }
+                return found;
+            });
+    }
+}
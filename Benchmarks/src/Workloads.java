@@ -0,0 +1,67 @@
+import java.util.Random;
+
+/**
+ * Shared input data for the benchmark suites. Keys are boxed ahead of time
+ * so both sides of a comparison pay the same boxing cost, which is none.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class Workloads {
+    private static final long SEED = 1332;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private Workloads() {
+    }
+
+    /**
+     * Returns the integers 0 to size - 1 in increasing order.
+     *
+     * @param size the number of keys
+     * @return the boxed keys
+     */
+    public static Integer[] sequentialKeys(int size) {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the integers 0 to size - 1 in a fixed random order.
+     *
+     * @param size the number of keys
+     * @return the boxed keys
+     */
+    public static Integer[] shuffledKeys(int size) {
+        Integer[] keys = sequentialKeys(size);
+        Random random = new Random(SEED);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer temp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = temp;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns size random indices between 0, inclusive, and bound,
+     * exclusive.
+     *
+     * @param size the number of indices
+     * @param bound the upper bound of every index
+     * @return the indices
+     */
+    public static int[] randomIndices(int size, int bound) {
+        int[] indices = new int[size];
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+        return indices;
+    }
+}
@@ -1,22 +1,86 @@
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * My implementation of an ArrayList.
  *
  * @author Jalo Moster
  * @version 1
  */
-public class ArrayList<T> implements ArrayListInterface<T> {
+public class ArrayList<T> implements ArrayListInterface<T>, Iterable<T> {
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private final boolean retainOnClear;
     private T[] backingArray;
     private int size;
+    private int modCount;
 
     /**
      * Constructs a new ArrayList.
      */
-    @SuppressWarnings("unchecked")
     public ArrayList() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ArrayList with the given initial capacity.
+     *
+     * @param initialCapacity the length of the initial backing array
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING, false);
+    }
+
+    /**
+     * Constructs a new ArrayList.
+     *
+     * @param initialCapacity the length of the initial backing array
+     * @param growthPolicy decides the new length when the array is full
+     * @param retainOnClear whether {@link #clear()} keeps the current backing
+     * array instead of allocating a new one
+     * @throws IllegalArgumentException if initialCapacity is negative or
+     * growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy,
+            boolean retainOnClear) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        } else if (growthPolicy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.retainOnClear = retainOnClear;
+        backingArray = (T[]) new Object[initialCapacity];
         size = 0;
     }
 
+    /**
+     * Constructs a new ArrayList that takes over the given array as its
+     * backing array, holding the first size elements. The caller must not
+     * use the array afterward.
+     *
+     * @param backingArray the array to take over
+     * @param size the number of elements in the array
+     */
+    ArrayList(T[] backingArray, int size) {
+        this.initialCapacity = INITIAL_CAPACITY;
+        this.growthPolicy = GrowthPolicy.DOUBLING;
+        this.retainOnClear = false;
+        this.backingArray = backingArray;
+        this.size = size;
+    }
+
     @Override
     public void addAtIndex(int index, T data) {
         if (index < 0 || index > size) {
@@ -35,6 +99,7 @@ public class ArrayList<T> implements ArrayListInterface<T> {
 
         backingArray[index] = data;
         size++;
+        modCount++;
     }
 
     @Override
@@ -48,17 +113,116 @@ public class ArrayList<T> implements ArrayListInterface<T> {
     }
 
     /**
-     * Helper method that, when called, grows the array by twice the size.
+     * Adds every element of the collection starting at the index specified,
+     * in the collection's iteration order.
+     *
+     * The backing array is grown at most once and the tail is shifted with a
+     * single copy, so this is O(n + m) rather than O(n * m).
+     *
+     * @param index the index where the first new element should go
+     * @param data the elements to add
+     * @throws IndexOutOfBoundsException if index is negative or index > size
+     * @throws IllegalArgumentException if data or any element in it is null
      */
-    @SuppressWarnings("unchecked")
-    private void grow() {
-        T[] temp = (T[]) new Object[size << 1];
-        for (int i = 0; i < size; i++) {
-            temp[i] = backingArray[i];
+    public void addAllAtIndex(int index, Collection<? extends T> data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
         }
+
+        Object[] added = data.toArray();
+        for (Object element : added) {
+            if (element == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+        }
+        if (added.length == 0) {
+            return;
+        }
+
+        if (added.length > backingArray.length - size) {
+            grow(size + added.length);
+        }
+
+        System.arraycopy(backingArray, index, backingArray,
+                index + added.length, size - index);
+        System.arraycopy(added, 0, backingArray, index, added.length);
+        size += added.length;
+        modCount++;
+    }
+
+    /**
+     * Adds every element of the collection to the back of the list, in the
+     * collection's iteration order.
+     *
+     * @param data the elements to add
+     * @throws IllegalArgumentException if data or any element in it is null
+     */
+    public void addAllToBack(Collection<? extends T> data) {
+        addAllAtIndex(size, data);
+    }
+
+    /**
+     * Helper method that, when called, grows the array to make room for one
+     * more element.
+     */
+    private void grow() {
+        grow(size + 1);
+    }
+
+    /**
+     * Helper method that grows the array to the length chosen by the growth
+     * policy, which is at least the given minimum capacity.
+     *
+     * @param minCapacity the smallest length the new array may have
+     */
+    private void grow(int minCapacity) {
+        resize(growthPolicy.newCapacity(backingArray.length, minCapacity));
+    }
+
+    /**
+     * Helper method that copies the elements into a new backing array.
+     *
+     * @param length the length of the new backing array
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int length) {
+        T[] temp = (T[]) new Object[length];
+        System.arraycopy(backingArray, 0, temp, 0, size);
         backingArray = temp;
     }
 
+    /**
+     * Grows the backing array, if needed, so it can hold at least the given
+     * number of elements without growing again.
+     *
+     * @param minCapacity the number of elements the list should fit
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the size of the list.
+     */
+    public void trimToSize() {
+        if (size < backingArray.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the number of elements the list can hold before growing
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
     @Override
     public T removeAtIndex(int index) {
         if (index < 0 || index >= size) {
@@ -71,9 +235,75 @@ public class ArrayList<T> implements ArrayListInterface<T> {
         }
         backingArray[size - 1] = null;
         size--;
+        modCount++;
         return removed;
     }
 
+    /**
+     * Removes every element from index {@code from}, inclusive, to index
+     * {@code to}, exclusive. The tail is shifted with a single copy.
+     *
+     * @param from the index of the first element to remove
+     * @param to the index after the last element to remove
+     * @throws IndexOutOfBoundsException if from < 0, to > size, or from > to
+     */
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(from));
+        } else if (to < from || to > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(to));
+        }
+
+        System.arraycopy(backingArray, to, backingArray, from, size - to);
+        int newSize = size - (to - from);
+        for (int i = newSize; i < size; i++) {
+            backingArray[i] = null;
+        }
+        if (newSize != size) {
+            size = newSize;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the given predicate, keeping the
+     * remaining elements in order. Survivors are compacted in one pass, so
+     * this is O(n) no matter how many elements are removed.
+     *
+     * If the predicate throws, the elements it has not yet seen are kept.
+     *
+     * @param filter the predicate that returns true for elements to remove
+     * @return true if any elements were removed; false otherwise
+     * @throws IllegalArgumentException if filter is null
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                if (!filter.test(backingArray[i])) {
+                    backingArray[kept++] = backingArray[i];
+                }
+            }
+        } finally {
+            System.arraycopy(backingArray, i, backingArray, kept, oldSize - i);
+            kept += oldSize - i;
+            for (int j = kept; j < oldSize; j++) {
+                backingArray[j] = null;
+            }
+            if (kept != oldSize) {
+                size = kept;
+                modCount++;
+            }
+        }
+        return kept != oldSize;
+    }
+
     @Override
     public T removeFromFront() {
         switch (size) {
@@ -124,15 +354,230 @@ public class ArrayList<T> implements ArrayListInterface<T> {
         return size;
     }
 
+    /**
+     * Clear the list.
+     *
+     * If this list was constructed to retain its array on clear, the
+     * elements are nulled out and the backing array is kept. Otherwise the
+     * backing array is reset to a new array of the initial capacity.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public void clear() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        if (retainOnClear) {
+            for (int i = 0; i < size; i++) {
+                backingArray[i] = null;
+            }
+        } else {
+            backingArray = (T[]) new Object[initialCapacity];
+        }
         size = 0;
+        modCount++;
     }
 
     @Override
     public Object[] getBackingArray() {
         return backingArray;
     }
+
+    /**
+     * Returns a fail-fast iterator over the list, from front to back.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Performs the given action on every element, from front to back,
+     * without allocating an iterator.
+     *
+     * @param action the action to perform on each element
+     * @throws IllegalArgumentException if action is null
+     * @throws ConcurrentModificationException if the list is structurally
+     * modified by the action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        int expectedModCount = modCount;
+        T[] array = backingArray;
+        int length = size;
+        for (int i = 0; i < length && modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list. Splitting halves the
+     * remaining range of the backing array, so parallel streams divide the
+     * work evenly without copying any elements.
+     *
+     * @return a spliterator over the elements of this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a sequential stream over the list. Call
+     * {@link Stream#parallel()} on it to process the list in parallel.
+     *
+     * @return a stream of the elements of this list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterator over an ArrayList that fails fast when the list is
+     * structurally modified by anything other than the iterator itself.
+     */
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException("No more elements");
+            }
+
+            lastReturned = cursor++;
+            return backingArray[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException("next() has not been called");
+            }
+            checkForComodification();
+
+            removeAtIndex(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was modified behind this iterator's back.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over a range of the backing array. The range and expected
+     * modification count are bound when the spliterator is first used, so
+     * changes made between creating it and traversing it are still seen.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * Creates a spliterator over the given range.
+         *
+         * @param origin the first index to visit
+         * @param fence the index after the last one to visit, or -1 to bind
+         * it to the size of the list on first use
+         * @param expectedModCount the modification count the list should have
+         */
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Returns the fence, binding it on first use.
+         *
+         * @return the index after the last one to visit
+         */
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("Action cannot be null");
+            }
+
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            T data = backingArray[index++];
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("Action cannot be null");
+            }
+
+            int hi = getFence();
+            T[] array = backingArray;
+            for (int i = index; i < hi; i++) {
+                action.accept(array[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
 }
@@ -0,0 +1,305 @@
+import java.util.Arrays;
+
+/**
+ * My implementation of an ArrayList stored as a list of fixed-size chunks,
+ * also known as a tiered vector.
+ *
+ * Each chunk is a small circular array, and every chunk except the last one
+ * is always full. This keeps get O(1), since the chunk and offset of an index
+ * can be computed directly, while letting the list grow by adding one chunk
+ * instead of copying every element into a bigger array. Because indices are
+ * longs, the list can hold more than {@code Integer.MAX_VALUE} elements.
+ *
+ * Adding or removing in the middle shifts elements inside one chunk and then
+ * moves a single element across each of the following chunks, which is
+ * O(B + n / B) for chunk size B, or O(sqrt n) when B is close to sqrt n.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class BigArrayList<T> implements ArrayListInterface<T> {
+    /**
+     * The default number of elements per chunk, as a power of two.
+     */
+    public static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private Object[][] chunks;
+    private int[] fronts;
+    private int chunkCount;
+    private long size;
+    private Object[] spareChunk;
+
+    /**
+     * Constructs a new BigArrayList with chunks of
+     * {@code 1 << DEFAULT_CHUNK_SHIFT} elements.
+     */
+    public BigArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs a new BigArrayList with chunks of {@code 1 << chunkShift}
+     * elements.
+     *
+     * @param chunkShift the base two logarithm of the chunk size
+     * @throws IllegalArgumentException if chunkShift is not between 1 and 30
+     */
+    public BigArrayList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 30) {
+            throw new IllegalArgumentException("Chunk shift must be between 1"
+                    + " and 30: " + chunkShift);
+        }
+
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        chunks = new Object[INITIAL_CAPACITY][];
+        fronts = new int[INITIAL_CAPACITY];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        addAtIndex((long) index, data);
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * @param index the index where you want the new element
+     * @param data any object of type T
+     * @throws IndexOutOfBoundsException if index is negative or index > size
+     * @throws IllegalArgumentException if data is null
+     * @see ArrayListInterface#addAtIndex(int, Object)
+     */
+    public void addAtIndex(long index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (size == (long) chunkCount << chunkShift) {
+            addChunk();
+        }
+
+        int chunk = (int) (index >>> chunkShift);
+        int last = chunkCount - 1;
+        for (int k = last; k > chunk; k--) {
+            Object[] previous = chunks[k - 1];
+            int back = (fronts[k - 1] + chunkMask) & chunkMask;
+            fronts[k] = (fronts[k] - 1) & chunkMask;
+            chunks[k][fronts[k]] = previous[back];
+            previous[back] = null;
+        }
+
+        Object[] array = chunks[chunk];
+        int front = fronts[chunk];
+        int offset = (int) (index & chunkMask);
+        int count = chunk == last
+                ? (int) (size - ((long) chunk << chunkShift)) : chunkMask;
+        if (offset < count / 2) {
+            front = (front - 1) & chunkMask;
+            for (int i = 0; i < offset; i++) {
+                array[(front + i) & chunkMask] =
+                        array[(front + i + 1) & chunkMask];
+            }
+            fronts[chunk] = front;
+        } else {
+            for (int i = count; i > offset; i--) {
+                array[(front + i) & chunkMask] =
+                        array[(front + i - 1) & chunkMask];
+            }
+        }
+        array[(front + offset) & chunkMask] = data;
+        size++;
+    }
+
+    @Override
+    public void addToFront(T data) {
+        addAtIndex(0L, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Helper method that appends an empty chunk, reusing the last released
+     * chunk if there is one. Only the chunk directory is ever copied.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount << 1);
+            fronts = Arrays.copyOf(fronts, chunkCount << 1);
+        }
+
+        if (spareChunk != null) {
+            chunks[chunkCount] = spareChunk;
+            spareChunk = null;
+        } else {
+            chunks[chunkCount] = new Object[chunkMask + 1];
+        }
+        fronts[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        return removeAtIndex((long) index);
+    }
+
+    /**
+     * Removes and returns the element at index.
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     * @see ArrayListInterface#removeAtIndex(int)
+     */
+    @SuppressWarnings("unchecked")
+    public T removeAtIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        int chunk = (int) (index >>> chunkShift);
+        int last = chunkCount - 1;
+        Object[] array = chunks[chunk];
+        int front = fronts[chunk];
+        int offset = (int) (index & chunkMask);
+        int count = chunk == last
+                ? (int) (size - ((long) chunk << chunkShift)) : chunkMask + 1;
+        T removed = (T) array[(front + offset) & chunkMask];
+        if (offset < count / 2) {
+            for (int i = offset; i > 0; i--) {
+                array[(front + i) & chunkMask] =
+                        array[(front + i - 1) & chunkMask];
+            }
+            array[front] = null;
+            fronts[chunk] = (front + 1) & chunkMask;
+        } else {
+            for (int i = offset; i < count - 1; i++) {
+                array[(front + i) & chunkMask] =
+                        array[(front + i + 1) & chunkMask];
+            }
+            array[(front + count - 1) & chunkMask] = null;
+        }
+
+        for (int k = chunk + 1; k <= last; k++) {
+            Object[] next = chunks[k];
+            int back = (fronts[k - 1] + chunkMask) & chunkMask;
+            chunks[k - 1][back] = next[fronts[k]];
+            next[fronts[k]] = null;
+            fronts[k] = (fronts[k] + 1) & chunkMask;
+        }
+
+        size--;
+        if (size == (long) last << chunkShift) {
+            spareChunk = chunks[last];
+            chunks[last] = null;
+            chunkCount--;
+        }
+        return removed;
+    }
+
+    @Override
+    public T removeFromFront() {
+        if (size == 0) {
+            return null;
+        }
+        return removeAtIndex(0L);
+    }
+
+    @Override
+    public T removeFromBack() {
+        if (size == 0) {
+            return null;
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    @Override
+    public T get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     * @see ArrayListInterface#get(int)
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        int chunk = (int) (index >>> chunkShift);
+        return (T) chunks[chunk][(fronts[chunk] + (int) (index & chunkMask))
+                & chunkMask];
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the size of the list, or {@code Integer.MAX_VALUE} if it holds
+     * more elements than an int can represent.
+     *
+     * @return the size of the list, capped at {@code Integer.MAX_VALUE}
+     * @see #longSize()
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Return the size of the list as a long.
+     *
+     * @return the size of the list
+     */
+    public long longSize() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        chunks = new Object[INITIAL_CAPACITY][];
+        fronts = new int[INITIAL_CAPACITY];
+        chunkCount = 0;
+        size = 0;
+        spareChunk = null;
+    }
+
+    /**
+     * Returns the chunk directory of this list. Each non-null entry is one
+     * chunk, which is itself a circular array.
+     *
+     * @return the array of chunks backing this list
+     */
+    @Override
+    public Object[] getBackingArray() {
+        return chunks;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * My implementation of an ArrayList backed by a circular array.
+ *
+ * The list keeps the index of its first element in the backing array, so
+ * adding or removing at either end is amortized O(1) instead of shifting
+ * every element. Adds and removes in the middle shift whichever side of the
+ * index is shorter, and get stays O(1).
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class CircularArrayList<T> implements ArrayListInterface<T> {
+    private T[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new CircularArrayList.
+     */
+    @SuppressWarnings("unchecked")
+    public CircularArrayList() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (size >= backingArray.length) {
+            grow();
+        }
+
+        if (index < size / 2) {
+            front = front == 0 ? backingArray.length - 1 : front - 1;
+            for (int i = 0; i < index; i++) {
+                backingArray[physicalIndex(i)] =
+                        backingArray[physicalIndex(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                backingArray[physicalIndex(i)] =
+                        backingArray[physicalIndex(i - 1)];
+            }
+        }
+
+        backingArray[physicalIndex(index)] = data;
+        size++;
+    }
+
+    @Override
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Helper method that grows the array by twice the size, unwrapping the
+     * elements so the front of the list is at index 0 again.
+     */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        T[] temp = (T[]) new Object[Math.max(size << 1, INITIAL_CAPACITY)];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, temp, 0, firstPart);
+        System.arraycopy(backingArray, 0, temp, firstPart, size - firstPart);
+        backingArray = temp;
+        front = 0;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        T removed = backingArray[physicalIndex(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                backingArray[physicalIndex(i)] =
+                        backingArray[physicalIndex(i - 1)];
+            }
+            backingArray[front] = null;
+            front = front == backingArray.length - 1 ? 0 : front + 1;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                backingArray[physicalIndex(i)] =
+                        backingArray[physicalIndex(i + 1)];
+            }
+            backingArray[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        return removed;
+    }
+
+    @Override
+    public T removeFromFront() {
+        switch (size) {
+        case 0:
+            return null;
+        default:
+            return removeAtIndex(0);
+        }
+    }
+
+    @Override
+    public T removeFromBack() {
+        switch (size) {
+        case 0:
+            return null;
+        default:
+            return removeAtIndex(size - 1);
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Translates an index in the list to an index in the backing array.
+     *
+     * @param index the index in the list, between 0 and the array length
+     * @return the index of that element in the backing array
+     */
+    private int physicalIndex(int index) {
+        int i = front + index;
+        return i >= backingArray.length ? i - backingArray.length : i;
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * backing array.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of this list. Unlike {@link ArrayList}, the
+     * front of the list is not necessarily at index 0.
+     *
+     * @return the backing array for this list
+     */
+    @Override
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the index in the backing array that holds the front of the
+     * list.
+     *
+     * @return the index of the front element in the backing array
+     */
+    public int getFront() {
+        return front;
+    }
+}
@@ -0,0 +1,235 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of a thread-safe ArrayList that copies its backing array
+ * on every write.
+ *
+ * Readers never lock: they read a volatile reference to an array that is
+ * never modified once published, so every read sees a consistent snapshot.
+ * Writers serialize on a lock, copy the array, change the copy and publish
+ * it. This suits lists that are read constantly and changed rarely. Use
+ * {@link #update(Consumer)} to apply many changes with a single copy.
+ *
+ * The backing array is always exactly as long as the list.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class CopyOnWriteArrayList<T> implements ArrayListInterface<T>,
+        Iterable<T> {
+    private final Object lock = new Object();
+    private volatile Object[] backingArray;
+
+    /**
+     * Constructs a new, empty CopyOnWriteArrayList.
+     */
+    public CopyOnWriteArrayList() {
+        backingArray = new Object[0];
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        synchronized (lock) {
+            Object[] array = backingArray;
+            if (index < 0 || index > array.length) {
+                throw new IndexOutOfBoundsException(
+                        outOfBoundsMsg(index, array.length));
+            }
+
+            Object[] temp = new Object[array.length + 1];
+            System.arraycopy(array, 0, temp, 0, index);
+            System.arraycopy(array, index, temp, index + 1,
+                    array.length - index);
+            temp[index] = data;
+            backingArray = temp;
+        }
+    }
+
+    @Override
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        synchronized (lock) {
+            Object[] array = backingArray;
+            Object[] temp = Arrays.copyOf(array, array.length + 1);
+            temp[array.length] = data;
+            backingArray = temp;
+        }
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        synchronized (lock) {
+            Object[] array = backingArray;
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException(
+                        outOfBoundsMsg(index, array.length));
+            }
+
+            return remove(array, index);
+        }
+    }
+
+    @Override
+    public T removeFromFront() {
+        synchronized (lock) {
+            Object[] array = backingArray;
+            return array.length == 0 ? null : remove(array, 0);
+        }
+    }
+
+    @Override
+    public T removeFromBack() {
+        synchronized (lock) {
+            Object[] array = backingArray;
+            return array.length == 0 ? null : remove(array, array.length - 1);
+        }
+    }
+
+    /**
+     * Helper method that publishes a copy of the array without the element
+     * at index. Must be called while holding the lock.
+     *
+     * @param array the current backing array
+     * @param index the index of the element to remove
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private T remove(Object[] array, int index) {
+        Object[] temp = new Object[array.length - 1];
+        System.arraycopy(array, 0, temp, 0, index);
+        System.arraycopy(array, index + 1, temp, index,
+                array.length - index - 1);
+        backingArray = temp;
+        return (T) array[index];
+    }
+
+    /**
+     * Applies a batch of changes with a single copy of the backing array.
+     *
+     * The changes are made to a private ArrayList backed by a copy of the
+     * current elements, and that copy becomes the new snapshot unless the
+     * batch left spare room in it. Readers keep seeing the old snapshot
+     * until the batch finishes, and then see all of the changes at once. If
+     * the batch throws, nothing is published. The list must not be kept
+     * after the batch returns.
+     *
+     * @param changes the changes to apply to the working copy
+     * @throws IllegalArgumentException if changes is null
+     */
+    @SuppressWarnings("unchecked")
+    public void update(Consumer<? super ArrayList<T>> changes) {
+        if (changes == null) {
+            throw new IllegalArgumentException("Changes cannot be null");
+        }
+
+        synchronized (lock) {
+            Object[] array = backingArray;
+            ArrayList<T> working = new ArrayList<>(
+                    (T[]) Arrays.copyOf(array, array.length), array.length);
+            changes.accept(working);
+            Object[] temp = working.getBackingArray();
+            backingArray = temp.length == working.size() ? temp
+                    : Arrays.copyOf(temp, working.size());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] array = backingArray;
+        if (index < 0 || index >= array.length) {
+            throw new IndexOutOfBoundsException(
+                    outOfBoundsMsg(index, array.length));
+        }
+
+        return (T) array[index];
+    }
+
+    /**
+     * Returns a String message that shows the index and the size of the
+     * snapshot it was checked against.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @param size the size of the snapshot
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index, int size) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return backingArray.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return backingArray.length;
+    }
+
+    /**
+     * Clear the list. The backing array is replaced with an empty array,
+     * since it always matches the size of the list.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            backingArray = new Object[0];
+        }
+    }
+
+    /**
+     * Returns the current snapshot backing this list. It must not be
+     * modified.
+     *
+     * @return the backing array for this list
+     */
+    @Override
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns an iterator over the snapshot of the list taken when this
+     * method is called. It never throws ConcurrentModificationException and
+     * does not support remove.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshot = backingArray;
+        return new Iterator<T>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= snapshot.length) {
+                    throw new NoSuchElementException("No more elements");
+                }
+                return (T) snapshot[cursor++];
+            }
+        };
+    }
+}
@@ -0,0 +1,252 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * My implementation of an ArrayList specialized for primitive doubles.
+ *
+ * Follows the same contract as {@link ArrayListInterface}, but stores the
+ * elements unboxed in a {@code double[]} so no wrapper objects are created.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class DoubleArrayList {
+    private double[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new DoubleArrayList.
+     */
+    public DoubleArrayList() {
+        this(ArrayListInterface.INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new DoubleArrayList with the given initial capacity.
+     *
+     * @param initialCapacity the length of the initial backing array
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+
+        backingArray = new double[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * @param index the index where you want the new element
+     * @param data the value to add
+     * @throws IndexOutOfBoundsException if index is negative or index > size
+     */
+    public void addAtIndex(int index, double data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        if (size >= backingArray.length) {
+            grow();
+        }
+
+        System.arraycopy(backingArray, index, backingArray, index + 1,
+                size - index);
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Add the given value to the front of the list.
+     *
+     * @param data the value to add
+     */
+    public void addToFront(double data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Add the given value to the back of the list.
+     *
+     * @param data the value to add
+     */
+    public void addToBack(double data) {
+        if (size >= backingArray.length) {
+            grow();
+        }
+
+        backingArray[size++] = data;
+    }
+
+    /**
+     * Helper method that grows the array to twice the size, or to
+     * {@code INITIAL_CAPACITY} if that is larger.
+     */
+    private void grow() {
+        backingArray = Arrays.copyOf(backingArray,
+                Math.max(size << 1, ArrayListInterface.INITIAL_CAPACITY));
+    }
+
+    /**
+     * Removes and returns the element at index.
+     *
+     * @param index the index of the element
+     * @return the value that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public double removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        double removed = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Remove the first element in the list and return it.
+     *
+     * @return the value from the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List cannot be empty");
+        }
+
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Remove the last element in the list and return it.
+     *
+     * @return the value from the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List cannot be empty");
+        }
+
+        return backingArray[--size];
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the value stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return backingArray[index];
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Returns a copy of the elements in this list.
+     *
+     * @return an array of length {@code size} holding the elements in order
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(backingArray, size);
+    }
+
+    /**
+     * Returns the sum of the elements in this list.
+     *
+     * @return the sum of the elements, or 0 if the list is empty
+     */
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += backingArray[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the smallest element in this list. If any element is NaN, the
+     * result is NaN.
+     *
+     * @return the minimum value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double min() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List cannot be empty");
+        }
+
+        double min = backingArray[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, backingArray[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest element in this list. If any element is NaN, the
+     * result is NaN.
+     *
+     * @return the maximum value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double max() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List cannot be empty");
+        }
+
+        double max = backingArray[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, backingArray[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Return a boolean value representing whether or not the list is empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clear the list. Reset the backing array to a new array of length
+     * {@code INITIAL_CAPACITY}, whatever capacity the list was constructed
+     * with.
+     */
+    public void clear() {
+        backingArray = new double[ArrayListInterface.INITIAL_CAPACITY];
+        size = 0;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Decides how large the backing array of a list becomes when it has to
+ * grow.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public interface GrowthPolicy {
+
+    /**
+     * The largest array length the policies will ask for. Some VMs reserve
+     * a few header words in an array, so lengths close to
+     * {@code Integer.MAX_VALUE} can fail even with enough memory.
+     */
+    int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * The default policy, which doubles the capacity.
+     */
+    GrowthPolicy DOUBLING = factor(2);
+
+    /**
+     * Returns the new length of the backing array.
+     *
+     * @param capacity the current length of the backing array
+     * @param minCapacity the smallest length that fits the pending elements
+     * @return the new length, at least {@code minCapacity}
+     * @throws OutOfMemoryError if minCapacity is larger than
+     * {@code MAX_ARRAY_LENGTH}
+     */
+    int newCapacity(int capacity, int minCapacity);
+
+    /**
+     * Returns a policy that multiplies the capacity by the given factor.
+     *
+     * @param factor the factor to grow by
+     * @return the growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Factor must be greater than 1: "
+                    + factor);
+        }
+
+        return (capacity, minCapacity) ->
+                clamp((long) Math.ceil(capacity * factor), minCapacity);
+    }
+
+    /**
+     * Returns a policy that adds a fixed number of slots to the capacity.
+     *
+     * @param increment the number of slots to add
+     * @return the growth policy
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive: "
+                    + increment);
+        }
+
+        return (capacity, minCapacity) ->
+                clamp((long) capacity + increment, minCapacity);
+    }
+
+    /**
+     * Returns a policy that follows the given policy, but never adds more
+     * than {@code maxIncrement} slots at once unless more are needed for
+     * the pending elements.
+     *
+     * @param policy the policy to cap
+     * @param maxIncrement the largest number of slots to add in one step
+     * @return the growth policy
+     * @throws IllegalArgumentException if policy is null or maxIncrement is
+     * not positive
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        } else if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Increment must be positive: "
+                    + maxIncrement);
+        }
+
+        return (capacity, minCapacity) -> clamp(Math.min(
+                policy.newCapacity(capacity, minCapacity),
+                (long) capacity + maxIncrement), minCapacity);
+    }
+
+    /**
+     * Keeps a requested capacity between {@code minCapacity} and
+     * {@code MAX_ARRAY_LENGTH}.
+     *
+     * @param capacity the requested capacity
+     * @param minCapacity the smallest length that fits the pending elements
+     * @return the clamped capacity
+     * @throws OutOfMemoryError if minCapacity is larger than
+     * {@code MAX_ARRAY_LENGTH}
+     */
+    private static int clamp(long capacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required capacity too large: "
+                    + Integer.toUnsignedString(minCapacity));
+        }
+
+        return (int) Math.max(minCapacity,
+                Math.min(capacity, MAX_ARRAY_LENGTH));
+    }
+}
@@ -0,0 +1,326 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * My implementation of an ArrayList stored in a memory-mapped file.
+ *
+ * Elements are encoded as fixed-width records by a {@link RecordCodec} and
+ * written straight into the page cache, so the list can be much larger than
+ * the heap. The file starts with a small header holding the record width and
+ * size, which means reopening an existing file only maps it again; nothing is
+ * deserialized.
+ *
+ * The records are mapped in regions of at most {@code REGION_SIZE} bytes,
+ * since a single MappedByteBuffer cannot be larger than 2 GB. Growing the
+ * list remaps only the last region and maps any new ones.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class MappedArrayList<T> implements ArrayListInterface<T>, Closeable {
+    /**
+     * The largest number of bytes mapped by a single region.
+     */
+    public static final int REGION_SIZE = 1 << 30;
+
+    private static final int MAGIC = 0x4D4C5354;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+
+    private final FileChannel channel;
+    private final RecordCodec<T> codec;
+    private final int width;
+    private final int recordsPerRegion;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] regions;
+    private long capacity;
+    private int size;
+
+    /**
+     * Opens the list stored in the given file, creating the file if it does
+     * not exist yet.
+     *
+     * @param file the file backing the list
+     * @param codec the codec used to encode elements
+     * @throws IOException if the file cannot be opened or mapped, or if it
+     * was written with a codec of a different width
+     * @throws IllegalArgumentException if file or codec is null, or if the
+     * codec's width is not positive
+     */
+    public MappedArrayList(Path file, RecordCodec<T> codec)
+        throws IOException {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("Arguments cannot be null");
+        } else if (codec.width() <= 0) {
+            throw new IllegalArgumentException("Width must be positive: "
+                    + codec.width());
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.recordsPerRegion = Math.max(1, REGION_SIZE / width);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() < HEADER_SIZE;
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE);
+            regions = new MappedByteBuffer[0];
+            if (created) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putLong(SIZE_OFFSET, 0);
+                size = 0;
+                map(INITIAL_CAPACITY);
+            } else {
+                if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                    throw new IOException("Not a MappedArrayList file: "
+                            + file);
+                } else if (header.getInt(WIDTH_OFFSET) != width) {
+                    throw new IOException("Record width mismatch, file: "
+                            + header.getInt(WIDTH_OFFSET) + ", codec: "
+                            + width);
+                }
+                size = (int) header.getLong(SIZE_OFFSET);
+                map((channel.size() - HEADER_SIZE) / width);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        } else if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is full");
+        }
+
+        if (size >= capacity) {
+            grow();
+        }
+
+        for (int i = size - 1; i >= index; i--) {
+            copyRecord(i, i + 1);
+        }
+        codec.write(region(index), offset(index), data);
+        setSize(size + 1);
+    }
+
+    @Override
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Helper method that, when called, doubles the capacity of the file.
+     */
+    private void grow() {
+        try {
+            map(Math.max(capacity << 1, INITIAL_CAPACITY));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps enough regions to hold the given number of records. Regions that
+     * already have the right length are kept; a partially filled last region
+     * is remapped with its new length. Mapping past the end of the file
+     * extends it.
+     *
+     * @param newCapacity the number of records the file should hold
+     * @throws IOException if a region cannot be mapped
+     */
+    private void map(long newCapacity) throws IOException {
+        int regionCount = (int) ((newCapacity + recordsPerRegion - 1)
+                / recordsPerRegion);
+        MappedByteBuffer[] temp = Arrays.copyOf(regions, regionCount);
+        for (int r = 0; r < regionCount; r++) {
+            long records = Math.min(recordsPerRegion,
+                    newCapacity - (long) r * recordsPerRegion);
+            long bytes = records * width;
+            if (temp[r] == null || temp[r].capacity() != bytes) {
+                temp[r] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + (long) r * recordsPerRegion * width,
+                        bytes);
+            }
+        }
+        regions = temp;
+        capacity = newCapacity;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        T removed = codec.read(region(index), offset(index));
+        for (int i = index; i < size - 1; i++) {
+            copyRecord(i + 1, i);
+        }
+        setSize(size - 1);
+        return removed;
+    }
+
+    @Override
+    public T removeFromFront() {
+        switch (size) {
+        case 0:
+            return null;
+        default:
+            return removeAtIndex(0);
+        }
+    }
+
+    @Override
+    public T removeFromBack() {
+        switch (size) {
+        case 0:
+            return null;
+        default:
+            return removeAtIndex(size - 1);
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return codec.read(region(index), offset(index));
+    }
+
+    /**
+     * Copies the raw bytes of one record over another.
+     *
+     * @param from the index of the record to copy
+     * @param to the index of the record to overwrite
+     */
+    private void copyRecord(int from, int to) {
+        MappedByteBuffer source = region(from);
+        MappedByteBuffer target = region(to);
+        int sourceOffset = offset(from);
+        int targetOffset = offset(to);
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+        for (; i < width; i++) {
+            target.put(targetOffset + i, source.get(sourceOffset + i));
+        }
+    }
+
+    /**
+     * Returns the region holding the record at the given index.
+     *
+     * @param index the index of the record
+     * @return the mapped region containing that record
+     */
+    private MappedByteBuffer region(int index) {
+        return regions[index / recordsPerRegion];
+    }
+
+    /**
+     * Returns the offset of the record at the given index within its region.
+     *
+     * @param index the index of the record
+     * @return the index of the record's first byte in its region
+     */
+    private int offset(int index) {
+        return (index % recordsPerRegion) * width;
+    }
+
+    /**
+     * Updates the size of the list, both in memory and in the file header.
+     *
+     * @param newSize the new size of the list
+     */
+    private void setSize(int newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clear the list.
+     *
+     * The file keeps its current length, since a mapped file cannot safely
+     * be shrunk while it is still mapped.
+     */
+    @Override
+    public void clear() {
+        setSize(0);
+    }
+
+    /**
+     * Writes every change to the list through to the storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Forces the list to disk and closes the file. The list must not be
+     * used afterwards.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Returns the mapped regions backing this list.
+     *
+     * @return the array of mapped regions
+     */
+    @Override
+    public Object[] getBackingArray() {
+        return regions;
+    }
+}
@@ -0,0 +1,99 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from fixed-width binary records, so they can be
+ * stored outside of the Java heap by {@link MappedArrayList}.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Codec for longs, stored as 8 bytes.
+     */
+    RecordCodec<Long> LONG = new RecordCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long data) {
+            buffer.putLong(offset, data);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for doubles, stored as 8 bytes.
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double data) {
+            buffer.putDouble(offset, data);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Codec for ints, stored as 4 bytes.
+     */
+    RecordCodec<Integer> INTEGER = new RecordCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer data) {
+            buffer.putInt(offset, data);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every record takes up. This must never
+     * change for a given codec.
+     *
+     * @return the width of one record in bytes
+     */
+    int width();
+
+    /**
+     * Writes the data as a record starting at the given absolute offset,
+     * without changing the buffer's position.
+     *
+     * @param buffer the buffer to write into
+     * @param offset the index of the first byte of the record
+     * @param data the data to encode, never null
+     */
+    void write(ByteBuffer buffer, int offset, T data);
+
+    /**
+     * Reads the record starting at the given absolute offset, without
+     * changing the buffer's position.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the index of the first byte of the record
+     * @return the decoded data
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,226 @@
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * My implementation of a thread-safe ArrayList guarded by a StampedLock.
+ *
+ * Reads first try an optimistic read, which takes no lock at all, and only
+ * fall back to a real read lock if a writer ran at the same time. Writers
+ * take the write lock and change the array in place, so unlike
+ * {@link CopyOnWriteArrayList} a write costs no more than it would on a
+ * plain {@link ArrayList}. This suits tables that are read mostly but still
+ * updated regularly.
+ *
+ * @author Jalo Moster
+ * @version 1
+ */
+public class StampedLockArrayList<T> implements ArrayListInterface<T> {
+    private final StampedLock lock = new StampedLock();
+    private Object[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new StampedLockArrayList.
+     */
+    public StampedLockArrayList() {
+        backingArray = new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+            }
+
+            if (size >= backingArray.length) {
+                grow();
+            }
+
+            System.arraycopy(backingArray, index, backingArray, index + 1,
+                    size - index);
+            backingArray[index] = data;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (size >= backingArray.length) {
+                grow();
+            }
+
+            backingArray[size++] = data;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Helper method that, when called, grows the array by twice the size.
+     * Must be called while holding the write lock.
+     */
+    private void grow() {
+        Object[] temp = new Object[Math.max(size << 1, INITIAL_CAPACITY)];
+        System.arraycopy(backingArray, 0, temp, 0, size);
+        backingArray = temp;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+            }
+
+            return remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T removeFromFront() {
+        long stamp = lock.writeLock();
+        try {
+            return size == 0 ? null : remove(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T removeFromBack() {
+        long stamp = lock.writeLock();
+        try {
+            return size == 0 ? null : remove(size - 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Helper method that removes the element at index. Must be called while
+     * holding the write lock.
+     *
+     * @param index the index of the element to remove
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private T remove(int index) {
+        T removed = (T) backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+        backingArray[--size] = null;
+        return removed;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * The array and size are first read without locking. If a write
+     * happened in the meantime, the read is retried under the read lock.
+     *
+     * @see ArrayListInterface#get(int)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] array = backingArray;
+        int currentSize = size;
+        Object data = null;
+        if (index >= 0 && index < currentSize && index < array.length) {
+            data = array[index];
+        }
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                if (index >= 0 && index < currentSize) {
+                    data = backingArray[index];
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + currentSize);
+        }
+        return (T) data;
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * backing array. Must be called while holding a lock.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            backingArray = new Object[INITIAL_CAPACITY];
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Object[] getBackingArray() {
+        long stamp = lock.readLock();
+        try {
+            return backingArray;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
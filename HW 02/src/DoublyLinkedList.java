@@ -1,13 +1,58 @@
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * My implementation of a DoublyLinkedList
  *
+ * An indexed list also keeps a hash map from each value to the nodes that
+ * hold it, in list order. That makes removeFirstOccurrence and contains O(1)
+ * expected time instead of a scan, at the cost of a map entry per distinct
+ * value. Values in an indexed list must have consistent equals and hashCode
+ * methods and must not change while they are in the list.
+ *
  * @author Jalo Moster
  * @version 1.0
  */
-public class DoublyLinkedList<T> implements LinkedListInterface<T> {
+public class DoublyLinkedList<T> implements LinkedListInterface<T>,
+        Iterable<T> {
     private LinkedListNode<T> head;
     private LinkedListNode<T> tail;
     private int size;
+    private int modCount;
+    /**
+     * Maps each value to its node, or to an ArrayDeque of its nodes in list
+     * order once it occurs more than once. Null if the list is not indexed.
+     */
+    private final HashMap<T, Object> nodesByValue;
+
+    /**
+     * Constructs a new DoublyLinkedList without a value index.
+     */
+    public DoublyLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new DoublyLinkedList.
+     *
+     * With an index, adding and removing at either end stay O(1) and only
+     * allocate a map entry for a value not already in the list. Adding in
+     * the middle also walks forward to the next equal value to keep that
+     * value's nodes in order.
+     *
+     * @param indexed whether to keep a map from values to their nodes
+     */
+    public DoublyLinkedList(boolean indexed) {
+        nodesByValue = indexed ? new HashMap<>() : null;
+    }
 
     @Override
     public void addAtIndex(int index, T data) {
@@ -47,7 +92,9 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
                 newNode.getPrevious().setNext(newNode);
                 newNode.getNext().setPrevious(newNode);
             }
+            indexAdd(newNode);
             size++;
+            modCount++;
         }
     }
 
@@ -70,7 +117,9 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
             head.setPrevious(newNode);
             head = newNode;
         }
+        indexAdd(newNode);
         size++;
+        modCount++;
     }
 
     @Override
@@ -92,7 +141,9 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
             tail.setNext(newNode);
             tail = newNode;
         }
+        indexAdd(newNode);
         size++;
+        modCount++;
     }
 
     @Override
@@ -117,6 +168,7 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
                 data = temp.getData();
                 temp.getPrevious().setNext(temp.getNext());
                 temp.getNext().setPrevious(temp.getPrevious());
+                indexRemove(temp);
             } else {
                 LinkedListNode<T> temp = tail;
                 int i = size - 1;
@@ -127,8 +179,10 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
                 data = temp.getData();
                 temp.getPrevious().setNext(temp.getNext());
                 temp.getNext().setPrevious(temp.getPrevious());
+                indexRemove(temp);
             }
             size--;
+            modCount++;
             return data;
         }
     }
@@ -140,15 +194,19 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
             return data;
         } else if (head == tail) {
             data = head.getData();
+            indexRemove(head);
             head = null;
             tail = null;
             size--;
+            modCount++;
             return data;
         } else {
             data = head.getData();
+            indexRemove(head);
             head = head.getNext();
             head.setPrevious(null);
             size--;
+            modCount++;
             return data;
         }
     }
@@ -160,15 +218,19 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
             return data;
         } else if (head == tail) {
             data = tail.getData();
+            indexRemove(tail);
             head = null;
             tail = null;
             size--;
+            modCount++;
             return data;
         } else {
             data = tail.getData();
+            indexRemove(tail);
             tail = tail.getPrevious();
             tail.setNext(null);
             size--;
+            modCount++;
             return data;
         }
     }
@@ -179,7 +241,14 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
             throw new IllegalArgumentException("Data cannot be null");
         }
 
-        if (size == 0) {
+        if (nodesByValue != null) {
+            LinkedListNode<T> node = firstNode(data);
+            if (node == null) {
+                return false;
+            }
+            unlink(node);
+            return true;
+        } else if (size == 0) {
             return false;
         } else {
             LinkedListNode<T> curr = head;
@@ -191,9 +260,7 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
                     } else if (i == size - 1) {
                         removeFromBack();
                     } else {
-                        curr.getPrevious().setNext(curr.getNext());
-                        curr.getNext().setPrevious(curr.getPrevious());
-                        size--;
+                        unlink(curr);
                     }
                     return true;
                 }
@@ -274,7 +341,11 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
     public void clear() {
         head = null;
         tail = null;
+        if (nodesByValue != null) {
+            nodesByValue.clear();
+        }
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -286,4 +357,888 @@ public class DoublyLinkedList<T> implements LinkedListInterface<T> {
     public LinkedListNode<T> getTail() {
         return tail;
     }
+
+    /**
+     * Moves every element of the given list to the back of this list, and
+     * leaves the given list empty. The nodes are relinked rather than
+     * copied, so this is O(1). If this list is indexed, the moved nodes
+     * are also added to its index, which is O(k) for k moved elements.
+     *
+     * @param list the list to move the elements from
+     * @throws IllegalArgumentException if list is null or is this list
+     */
+    public void appendAll(DoublyLinkedList<T> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        } else if (list == this) {
+            throw new IllegalArgumentException("Cannot append a list to"
+                    + " itself");
+        } else if (list.head == null) {
+            return;
+        }
+
+        LinkedListNode<T> first = list.head;
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.setNext(first);
+            first.setPrevious(tail);
+        }
+        tail = list.tail;
+        size += list.size;
+        modCount++;
+        list.clear();
+        if (nodesByValue != null) {
+            for (LinkedListNode<T> curr = first; curr != null;
+                    curr = curr.getNext()) {
+                indexAppend(curr);
+            }
+        }
+    }
+
+    /**
+     * Moves every element of the given list into this list, so the first
+     * of them ends up at the given index, and leaves the given list empty.
+     * The nodes are relinked rather than copied, so apart from finding the
+     * index this is O(1).
+     *
+     * If this list is indexed, splicing at either end adds the moved nodes
+     * to the index in O(k) for k moved elements. Splicing in the middle
+     * rebuilds the index, which is O(n).
+     *
+     * @param index the index the first moved element should have
+     * @param list the list to move the elements from
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if list is null or is this list
+     */
+    public void spliceAt(int index, DoublyLinkedList<T> list) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        } else if (list == this) {
+            throw new IllegalArgumentException("Cannot splice a list into"
+                    + " itself");
+        }
+
+        if (index == size) {
+            appendAll(list);
+            return;
+        } else if (list.head == null) {
+            return;
+        }
+
+        LinkedListNode<T> first = list.head;
+        LinkedListNode<T> last = list.tail;
+        LinkedListNode<T> successor = node(index);
+        LinkedListNode<T> predecessor = successor.getPrevious();
+        first.setPrevious(predecessor);
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.setNext(first);
+        }
+        last.setNext(successor);
+        successor.setPrevious(last);
+        size += list.size;
+        modCount++;
+        list.clear();
+
+        if (nodesByValue == null) {
+            return;
+        } else if (index == 0) {
+            for (LinkedListNode<T> curr = last; curr != null;
+                    curr = curr.getPrevious()) {
+                indexPrepend(curr);
+            }
+        } else {
+            nodesByValue.clear();
+            for (LinkedListNode<T> curr = head; curr != null;
+                    curr = curr.getNext()) {
+                indexAppend(curr);
+            }
+        }
+    }
+
+    /**
+     * Splits the list in two at the given index. This list keeps the
+     * elements before the index, and the rest are moved to a new list,
+     * which is indexed if this list is. The nodes are relinked rather than
+     * copied, so apart from finding the index this is O(1). If the lists
+     * are indexed, the moved nodes are also moved between the indexes,
+     * which is O(k) for k moved elements.
+     *
+     * @param index the index of the first element to move
+     * @return a new list holding the elements from index on
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public DoublyLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        DoublyLinkedList<T> rest = new DoublyLinkedList<>(
+                nodesByValue != null);
+        if (index == size) {
+            return rest;
+        }
+
+        LinkedListNode<T> first = node(index);
+        LinkedListNode<T> last = tail;
+        tail = first.getPrevious();
+        if (tail == null) {
+            head = null;
+        } else {
+            tail.setNext(null);
+        }
+        first.setPrevious(null);
+        rest.head = first;
+        rest.tail = last;
+        rest.size = size - index;
+        size = index;
+        modCount++;
+
+        if (nodesByValue != null) {
+            for (LinkedListNode<T> curr = last; curr != null;
+                    curr = curr.getPrevious()) {
+                indexRemove(curr);
+                rest.indexPrepend(curr);
+            }
+        }
+        return rest;
+    }
+
+    /**
+     * Returns whether the list contains the data. This is O(1) expected time
+     * for an indexed list and O(n) otherwise.
+     *
+     * @param data the data to look for
+     * @return true if some element of the list equals data
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (nodesByValue != null) {
+            return nodesByValue.containsKey(data);
+        }
+        for (LinkedListNode<T> curr = head; curr != null;
+                curr = curr.getNext()) {
+            if (data.equals(curr.getData())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the data. An indexed list
+     * finds the node in O(1) expected time and only has to count its way
+     * back to the head, and a missing value is reported in O(1).
+     *
+     * @param data the data to look for
+     * @return the index of the first element that equals data, or -1 if
+     * there is none
+     * @throws IllegalArgumentException if data is null
+     */
+    public int indexOf(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (nodesByValue != null) {
+            LinkedListNode<T> node = firstNode(data);
+            if (node == null) {
+                return -1;
+            }
+            int index = 0;
+            for (LinkedListNode<T> curr = node.getPrevious(); curr != null;
+                    curr = curr.getPrevious()) {
+                index++;
+            }
+            return index;
+        }
+        int index = 0;
+        for (LinkedListNode<T> curr = head; curr != null;
+                curr = curr.getNext()) {
+            if (data.equals(curr.getData())) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Helper method that looks up the first node holding the data in the
+     * index.
+     *
+     * @param data the data to look for
+     * @return the first node holding data, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private LinkedListNode<T> firstNode(T data) {
+        Object entry = nodesByValue.get(data);
+        if (entry instanceof ArrayDeque) {
+            return ((ArrayDeque<LinkedListNode<T>>) entry).peekFirst();
+        }
+        return (LinkedListNode<T>) entry;
+    }
+
+    /**
+     * Helper method that records a node that was just linked into the list.
+     * A value's nodes are kept in list order, so a node at either end of
+     * the list goes to the same end of its run. A node in the middle is put
+     * before the next node with an equal value, which is found by walking
+     * forward. Does nothing if the list is not indexed.
+     *
+     * @param node the node that was linked
+     */
+    private void indexAdd(LinkedListNode<T> node) {
+        if (nodesByValue == null) {
+            return;
+        }
+
+        T data = node.getData();
+        ArrayDeque<LinkedListNode<T>> run = run(node);
+        if (run == null) {
+            return;
+        } else if (node.getNext() == null) {
+            run.addLast(node);
+        } else if (node.getPrevious() == null) {
+            run.addFirst(node);
+        } else {
+            LinkedListNode<T> successor = node.getNext();
+            while (successor != null && !data.equals(successor.getData())) {
+                successor = successor.getNext();
+            }
+            if (successor == null) {
+                run.addLast(node);
+            } else if (successor == run.peekFirst()) {
+                run.addFirst(node);
+            } else {
+                ArrayDeque<LinkedListNode<T>> ordered =
+                        new ArrayDeque<>(run.size() + 1);
+                for (LinkedListNode<T> curr : run) {
+                    if (curr == successor) {
+                        ordered.add(node);
+                    }
+                    ordered.add(curr);
+                }
+                nodesByValue.put(data, ordered);
+            }
+        }
+    }
+
+    /**
+     * Helper method that records a node that comes after every other node
+     * with an equal value. Does nothing if the list is not indexed.
+     *
+     * @param node the node that was linked
+     */
+    private void indexAppend(LinkedListNode<T> node) {
+        if (nodesByValue != null) {
+            ArrayDeque<LinkedListNode<T>> run = run(node);
+            if (run != null) {
+                run.addLast(node);
+            }
+        }
+    }
+
+    /**
+     * Helper method that records a node that comes before every other node
+     * with an equal value. Does nothing if the list is not indexed.
+     *
+     * @param node the node that was linked
+     */
+    private void indexPrepend(LinkedListNode<T> node) {
+        if (nodesByValue != null) {
+            ArrayDeque<LinkedListNode<T>> run = run(node);
+            if (run != null) {
+                run.addFirst(node);
+            }
+        }
+    }
+
+    /**
+     * Helper method that returns the run of nodes for a new node's value,
+     * turning a single node into a run if needed. If the value is not in
+     * the index yet, the node is recorded as its only node instead.
+     *
+     * @param node the new node, which is not added to the run
+     * @return the run the node still has to be added to, or null if the
+     * node was recorded on its own
+     */
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<LinkedListNode<T>> run(LinkedListNode<T> node) {
+        T data = node.getData();
+        Object entry = nodesByValue.putIfAbsent(data, node);
+        if (entry == null) {
+            return null;
+        } else if (entry instanceof ArrayDeque) {
+            return (ArrayDeque<LinkedListNode<T>>) entry;
+        }
+        ArrayDeque<LinkedListNode<T>> run = new ArrayDeque<>(4);
+        run.add((LinkedListNode<T>) entry);
+        nodesByValue.put(data, run);
+        return run;
+    }
+
+    /**
+     * Helper method that forgets a node that is being unlinked from the
+     * list. Nodes at either end of their value's run are dropped in O(1).
+     * Does nothing if the list is not indexed.
+     *
+     * @param node the node being unlinked
+     */
+    @SuppressWarnings("unchecked")
+    private void indexRemove(LinkedListNode<T> node) {
+        if (nodesByValue == null) {
+            return;
+        }
+
+        T data = node.getData();
+        Object entry = nodesByValue.get(data);
+        if (entry == node) {
+            nodesByValue.remove(data);
+            return;
+        }
+        ArrayDeque<LinkedListNode<T>> run =
+                (ArrayDeque<LinkedListNode<T>>) entry;
+        if (run.peekFirst() == node) {
+            run.pollFirst();
+        } else if (run.peekLast() == node) {
+            run.pollLast();
+        } else {
+            run.removeFirstOccurrence(node);
+        }
+        if (run.isEmpty()) {
+            nodesByValue.remove(data);
+        }
+    }
+
+    /**
+     * Helper method that unlinks the given node from the list in O(1).
+     *
+     * @param node the node to unlink, which must be in this list
+     */
+    private void unlink(LinkedListNode<T> node) {
+        LinkedListNode<T> previous = node.getPrevious();
+        LinkedListNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        indexRemove(node);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Helper method that links a new node holding the data directly before
+     * the given node in O(1).
+     *
+     * @param data the data for the new node
+     * @param successor the node to insert before, which must be in this list
+     * @return the new node
+     */
+    private LinkedListNode<T> linkBefore(T data,
+            LinkedListNode<T> successor) {
+        LinkedListNode<T> previous = successor.getPrevious();
+        LinkedListNode<T> newNode =
+                new LinkedListNode<>(data, previous, successor);
+        if (previous == null) {
+            head = newNode;
+        } else {
+            previous.setNext(newNode);
+        }
+        successor.setPrevious(newNode);
+        indexAdd(newNode);
+        size++;
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Helper method that links a new node holding the data directly after
+     * the given node in O(1).
+     *
+     * @param data the data for the new node
+     * @param predecessor the node to insert after, which must be in this list
+     * @return the new node
+     */
+    private LinkedListNode<T> linkAfter(T data,
+            LinkedListNode<T> predecessor) {
+        LinkedListNode<T> next = predecessor.getNext();
+        LinkedListNode<T> newNode =
+                new LinkedListNode<>(data, predecessor, next);
+        if (next == null) {
+            tail = newNode;
+        } else {
+            next.setPrevious(newNode);
+        }
+        predecessor.setNext(newNode);
+        indexAdd(newNode);
+        size++;
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Helper method that swaps a node for a new node holding the given data
+     * in O(1). LinkedListNode's data cannot be changed, so this is how an
+     * element is replaced in place.
+     *
+     * @param node the node to replace, which must be in this list
+     * @param data the data for the new node
+     * @return the new node
+     */
+    private LinkedListNode<T> replace(LinkedListNode<T> node, T data) {
+        LinkedListNode<T> newNode = new LinkedListNode<>(data,
+                node.getPrevious(), node.getNext());
+        if (newNode.getPrevious() == null) {
+            head = newNode;
+        } else {
+            newNode.getPrevious().setNext(newNode);
+        }
+        if (newNode.getNext() == null) {
+            tail = newNode;
+        } else {
+            newNode.getNext().setPrevious(newNode);
+        }
+        indexRemove(node);
+        indexAdd(newNode);
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Helper method that finds the node at the given index, walking from
+     * whichever end of the list is closer.
+     *
+     * @param index the index of the node, which must be in bounds
+     * @return the node at that index
+     */
+    private LinkedListNode<T> node(int index) {
+        LinkedListNode<T> temp;
+        if (index < (size >> 1)) {
+            temp = head;
+            for (int i = 0; i < index; i++) {
+                temp = temp.getNext();
+            }
+        } else {
+            temp = tail;
+            for (int i = size - 1; i > index; i--) {
+                temp = temp.getPrevious();
+            }
+        }
+        return temp;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list, from head to tail.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a cursor positioned before the head of the list.
+     *
+     * @return a cursor over this list
+     */
+    public Cursor listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a cursor positioned so the first call to next() returns the
+     * element at the given index. Positioning the cursor is O(n), but every
+     * operation on it afterwards is O(1).
+     *
+     * @param index the index of the element next() should return first
+     * @return a cursor over this list
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public Cursor listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return new Cursor(index);
+    }
+
+    /**
+     * Performs the given action on every element, from head to tail,
+     * without allocating an iterator.
+     *
+     * @param action the action to perform on each element
+     * @throws IllegalArgumentException if action is null
+     * @throws ConcurrentModificationException if the list is structurally
+     * modified by the action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        int expectedModCount = modCount;
+        LinkedListNode<T> curr = head;
+        while (curr != null && modCount == expectedModCount) {
+            action.accept(curr.getData());
+            curr = curr.getNext();
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list. Splitting walks to the
+     * middle of the remaining nodes and hands off the first half, so
+     * parallel streams divide the work evenly without copying any elements.
+     *
+     * @return a spliterator over the elements of this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DoublyLinkedListSpliterator(null, -1, 0);
+    }
+
+    /**
+     * Returns a sequential stream over the list. Call
+     * {@link Stream#parallel()} on it to process the list in parallel.
+     *
+     * @return a stream of the elements of this list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * A bidirectional cursor over the list that holds a reference to its
+     * current node, so moving, inserting, replacing and removing are all
+     * O(1). An editing pass that touches k positions is therefore O(n + k)
+     * instead of O(k * n).
+     *
+     * Like any ListIterator, the cursor sits between two elements.
+     * {@link #remove()}, {@link #set(Object)}, {@link #insertBefore(Object)}
+     * and {@link #insertAfter(Object)} act on the element most recently
+     * returned by next() or previous(). The cursor fails fast if the list is
+     * structurally modified by anything other than the cursor itself.
+     */
+    public class Cursor implements ListIterator<T> {
+        private LinkedListNode<T> next;
+        private LinkedListNode<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates a cursor before the element at the given index.
+         *
+         * @param index the index of the element next() should return first
+         */
+        private Cursor(int index) {
+            next = index == size ? null : node(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements");
+            }
+
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No more elements");
+            }
+
+            next = next == null ? tail : next.getPrevious();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element most recently returned by next() or
+         * previous().
+         *
+         * @throws IllegalStateException if there is no such element
+         */
+        @Override
+        public void remove() {
+            checkLastReturned();
+
+            LinkedListNode<T> lastNext = lastReturned.getNext();
+            unlink(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the element most recently returned by next() or
+         * previous().
+         *
+         * @param data the new data
+         * @throws IllegalArgumentException if data is null
+         * @throws IllegalStateException if there is no such element
+         */
+        @Override
+        public void set(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+            checkLastReturned();
+
+            LinkedListNode<T> newNode = replace(lastReturned, data);
+            if (next == lastReturned) {
+                next = newNode;
+            }
+            lastReturned = newNode;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts the data at the cursor, so it is returned by the next
+         * call to previous() and not by next().
+         *
+         * @param data the data to insert
+         * @throws IllegalArgumentException if data is null
+         */
+        @Override
+        public void add(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+            checkForComodification();
+
+            if (next == null) {
+                addToBack(data);
+            } else {
+                linkBefore(data, next);
+            }
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts the data directly before the element most recently
+         * returned by next() or previous(). That element stays current, so
+         * it can still be removed or replaced. As with add, if the new
+         * element lands at the cursor it goes before it, so the next call
+         * to next() is unaffected.
+         *
+         * @param data the data to insert
+         * @throws IllegalArgumentException if data is null
+         * @throws IllegalStateException if there is no such element
+         */
+        public void insertBefore(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+            checkLastReturned();
+
+            linkBefore(data, lastReturned);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts the data directly after the element most recently
+         * returned by next() or previous(). That element stays current, so
+         * it can still be removed or replaced. As with add, if the new
+         * element lands at the cursor it goes before it, so the next call
+         * to next() is unaffected.
+         *
+         * @param data the data to insert
+         * @throws IllegalArgumentException if data is null
+         * @throws IllegalStateException if there is no such element
+         */
+        public void insertAfter(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+            checkLastReturned();
+
+            linkAfter(data, lastReturned);
+            if (next != lastReturned) {
+                nextIndex++;
+            }
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws unless there is a current element and the list was not
+         * modified behind this cursor's back.
+         */
+        private void checkLastReturned() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("No current element");
+            }
+            checkForComodification();
+        }
+
+        /**
+         * Throws if the list was modified behind this cursor's back.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over a run of consecutive nodes. The run and expected
+     * modification count are bound when the spliterator is first used, so
+     * changes made between creating it and traversing it are still seen.
+     */
+    private class DoublyLinkedListSpliterator implements Spliterator<T> {
+        private LinkedListNode<T> current;
+        private int remaining;
+        private int expectedModCount;
+
+        /**
+         * Creates a spliterator over a run of nodes.
+         *
+         * @param first the first node to visit
+         * @param count the number of nodes to visit, or -1 to bind the run
+         * to the whole list on first use
+         * @param expectedModCount the modification count the list should have
+         */
+        DoublyLinkedListSpliterator(LinkedListNode<T> first, int count,
+                int expectedModCount) {
+            this.current = first;
+            this.remaining = count;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Returns the number of nodes left to visit, binding the run on
+         * first use.
+         *
+         * @return the number of nodes left to visit
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                expectedModCount = modCount;
+                current = head;
+                remaining = size;
+            }
+            return remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int count = getRemaining();
+            if (count < 2) {
+                return null;
+            }
+
+            int half = count >>> 1;
+            LinkedListNode<T> first = current;
+            for (int i = 0; i < half; i++) {
+                current = current.getNext();
+            }
+            remaining = count - half;
+            return new DoublyLinkedListSpliterator(first, half,
+                    expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("Action cannot be null");
+            }
+
+            if (getRemaining() == 0) {
+                return false;
+            }
+            T data = current.getData();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("Action cannot be null");
+            }
+
+            int count = getRemaining();
+            LinkedListNode<T> curr = current;
+            for (int i = 0; i < count; i++) {
+                action.accept(curr.getData());
+                curr = curr.getNext();
+            }
+            current = curr;
+            remaining = 0;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
 }
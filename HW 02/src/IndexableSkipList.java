@@ -0,0 +1,390 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * My implementation of a positional list built on an indexable skip list.
+ *
+ * The elements are kept in list order, not sorted order. Every node is
+ * linked forward and backward on each of its levels, and every forward link
+ * records its span, which is the number of positions it skips. Finding an
+ * index follows the express levels and adds up spans, so get, addAtIndex and
+ * removeAtIndex take O(log n) expected time instead of walking half the
+ * list.
+ *
+ * Head and tail sentinels span every level, so adding or removing at either
+ * end only touches the sentinel's links. That costs O(h) for the current
+ * height h of the list, with no search at all.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class IndexableSkipList<T> implements LinkedListInterface<T>,
+        Iterable<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private final Node<T>[] update = newPath();
+    private final int[] rank = new int[MAX_LEVEL];
+    private Node<T> head;
+    private Node<T> tail;
+    private int level;
+    private int size;
+    private int modCount;
+
+    /**
+     * A node of the skip list. The sentinels have null data.
+     */
+    private static final class Node<T> {
+        private final T data;
+        private final Node<T>[] next;
+        private final Node<T>[] previous;
+        private final int[] span;
+
+        /**
+         * Creates a node of the given height.
+         *
+         * @param data the data in the node
+         * @param height the number of levels the node is linked on
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Node(T data, int height) {
+            this.data = data;
+            this.next = new Node[height];
+            this.previous = new Node[height];
+            this.span = new int[height];
+        }
+    }
+
+    /**
+     * Constructs a new, empty IndexableSkipList.
+     */
+    public IndexableSkipList() {
+        clear();
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            findPredecessors(index);
+            insert(index, data);
+        }
+    }
+
+    @Override
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            update[l] = head;
+            rank[l] = -1;
+        }
+        insert(0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        for (int l = 0; l < level; l++) {
+            update[l] = tail.previous[l];
+            rank[l] = size - update[l].span[l];
+        }
+        for (int l = level; l < MAX_LEVEL; l++) {
+            update[l] = head;
+            rank[l] = -1;
+        }
+        insert(size, data);
+    }
+
+    /**
+     * Helper method that links a new node at the given index. The search
+     * path must already hold the last node before index on each level and
+     * its position, with the head at position -1.
+     *
+     * @param index the position of the new node
+     * @param data the data for the new node
+     */
+    private void insert(int index, T data) {
+        int height = randomHeight();
+        for (int l = level; l < height; l++) {
+            head.span[l] = size + 1;
+        }
+        level = Math.max(level, height);
+
+        Node<T> node = new Node<>(data, height);
+        for (int l = 0; l < height; l++) {
+            Node<T> predecessor = update[l];
+            Node<T> successor = predecessor.next[l];
+            int successorRank = rank[l] + predecessor.span[l];
+            node.next[l] = successor;
+            node.previous[l] = predecessor;
+            node.span[l] = successorRank + 1 - index;
+            successor.previous[l] = node;
+            predecessor.next[l] = node;
+            predecessor.span[l] = index - rank[l];
+        }
+        for (int l = height; l < level; l++) {
+            update[l].span[l]++;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method that fills the search path with the last node before
+     * the given index on each level and its position.
+     *
+     * @param index the index to search for
+     */
+    private void findPredecessors(int index) {
+        Node<T> x = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != tail && position + x.span[l] < index) {
+                position += x.span[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            rank[l] = position;
+        }
+        for (int l = level; l < MAX_LEVEL; l++) {
+            update[l] = head;
+            rank[l] = -1;
+        }
+    }
+
+    /**
+     * Helper method that unlinks a node. On the levels above the node's
+     * height, the search path must hold the node whose link skips over it.
+     *
+     * @param node the node to unlink
+     * @return the data in the node
+     */
+    private T unlink(Node<T> node) {
+        int height = node.next.length;
+        for (int l = 0; l < height; l++) {
+            Node<T> predecessor = node.previous[l];
+            Node<T> successor = node.next[l];
+            predecessor.next[l] = successor;
+            predecessor.span[l] += node.span[l] - 1;
+            successor.previous[l] = predecessor;
+        }
+        for (int l = height; l < level; l++) {
+            update[l].span[l]--;
+        }
+        while (level > 1 && head.next[level - 1] == tail) {
+            level--;
+        }
+        size--;
+        modCount++;
+        return node.data;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        findPredecessors(index);
+        return unlink(update[0].next[0]);
+    }
+
+    @Override
+    public T removeFromFront() {
+        if (size == 0) {
+            return null;
+        }
+
+        for (int l = 0; l < level; l++) {
+            update[l] = head;
+        }
+        return unlink(head.next[0]);
+    }
+
+    @Override
+    public T removeFromBack() {
+        if (size == 0) {
+            return null;
+        }
+
+        for (int l = 0; l < level; l++) {
+            update[l] = tail.previous[l];
+        }
+        return unlink(tail.previous[0]);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        int index = 0;
+        for (Node<T> x = head.next[0]; x != tail; x = x.next[0]) {
+            if (data.equals(x.data)) {
+                removeAtIndex(index);
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        Node<T> x = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != tail && position + x.span[l] <= index) {
+                position += x.span[l];
+                x = x.next[l];
+            }
+            if (position == index) {
+                break;
+            }
+        }
+        return x.data;
+    }
+
+    /**
+     * Returns a random height with a geometric distribution, so each level
+     * holds about half as many nodes as the one below it.
+     *
+     * @return a height between 1 and {@code MAX_LEVEL}
+     */
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Math.min(Integer.numberOfTrailingZeros(bits) + 1, MAX_LEVEL);
+    }
+
+    /**
+     * Returns an empty array for a search path.
+     *
+     * @param <T> the type of data in the nodes
+     * @return an array with one slot per level
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Node<T>[] newPath() {
+        return new Node[MAX_LEVEL];
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] objects = new Object[size];
+        int i = 0;
+        for (Node<T> x = head.next[0]; x != tail; x = x.next[0]) {
+            objects[i++] = x.data;
+        }
+        return objects;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = new Node<>(null, MAX_LEVEL);
+        tail = new Node<>(null, MAX_LEVEL);
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = tail;
+            head.span[l] = 1;
+            tail.previous[l] = head;
+        }
+        level = 1;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a node holding the first element of the list. This list
+     * stores skip list nodes rather than LinkedListNodes, so the node is
+     * detached and its references are null.
+     *
+     * @return a node with the first element, or null if the list is empty
+     */
+    @Override
+    public LinkedListNode<T> getHead() {
+        return size == 0 ? null : new LinkedListNode<>(head.next[0].data);
+    }
+
+    /**
+     * Returns a node holding the last element of the list. This list stores
+     * skip list nodes rather than LinkedListNodes, so the node is detached
+     * and its references are null.
+     *
+     * @return a node with the last element, or null if the list is empty
+     */
+    @Override
+    public LinkedListNode<T> getTail() {
+        return size == 0 ? null : new LinkedListNode<>(tail.previous[0].data);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list, from head to tail.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> next = head.next[0];
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != tail;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } else if (next == tail) {
+                    throw new NoSuchElementException("No more elements");
+                }
+
+                T data = next.data;
+                next = next.next[0];
+                return data;
+            }
+        };
+    }
+}
@@ -0,0 +1,364 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * My implementation of a lock-free concurrent deque, following Michael's
+ * CAS-based deque.
+ *
+ * The head, tail and size of the deque live together in an immutable
+ * anchor, and every operation takes effect with a single compare-and-set
+ * on the anchor. A push also leaves a status in the new anchor saying the
+ * old end node's link to the new node still has to be set. Any thread that
+ * sees that status finishes the link before trying its own operation, so a
+ * stalled thread can never block the others.
+ *
+ * Because the size is part of the anchor, {@link #size()} is exact at the
+ * moment it is read. Iteration is weakly consistent: it never throws
+ * ConcurrentModificationException, returns each element at most once, and
+ * may or may not see changes made after the iterator was created.
+ *
+ * Data cannot be null, so null can be returned when the deque is empty.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class LockFreeDeque<T> implements Iterable<T> {
+    private static final int STABLE = 0;
+    private static final int PUSHED_FRONT = 1;
+    private static final int PUSHED_BACK = 2;
+
+    private static final VarHandle ANCHOR;
+    private static final VarHandle PREVIOUS;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ANCHOR = lookup.findVarHandle(LockFreeDeque.class, "anchor",
+                    Anchor.class);
+            PREVIOUS = lookup.findVarHandle(Node.class, "previous",
+                    Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Anchor<T> anchor = new Anchor<>(null, null, STABLE, 0);
+
+    /**
+     * A node of the deque. Once a node is in the deque its links are only
+     * changed by compare-and-set, so a thread that loses a race leaves them
+     * alone. The links are package-private so the outer class can make
+     * VarHandles for them, which needs nestmate access on Java 9.
+     */
+    private static final class Node<T> {
+        private final T data;
+        volatile Node<T> previous;
+        volatile Node<T> next;
+
+        /**
+         * Creates an unlinked node.
+         *
+         * @param data the data in the node
+         */
+        private Node(T data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the ends of the deque.
+     */
+    private static final class Anchor<T> {
+        private final Node<T> head;
+        private final Node<T> tail;
+        private final int status;
+        private final int size;
+
+        /**
+         * Creates an anchor.
+         *
+         * @param head the first node, or null if the deque is empty
+         * @param tail the last node, or null if the deque is empty
+         * @param status whether an end node still has to be linked to its
+         * new neighbor
+         * @param size the number of elements
+         */
+        private Anchor(Node<T> head, Node<T> tail, int status, int size) {
+            this.head = head;
+            this.tail = tail;
+            this.status = status;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        Node<T> node = new Node<>(data);
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.head == null) {
+                if (casAnchor(a, new Anchor<>(node, node, STABLE, 1))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.next = a.head;
+                Anchor<T> pushed = new Anchor<>(node, a.tail, PUSHED_FRONT,
+                        a.size + 1);
+                if (casAnchor(a, pushed)) {
+                    stabilize(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        Node<T> node = new Node<>(data);
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.tail == null) {
+                if (casAnchor(a, new Anchor<>(node, node, STABLE, 1))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.previous = a.tail;
+                Anchor<T> pushed = new Anchor<>(a.head, node, PUSHED_BACK,
+                        a.size + 1);
+                if (casAnchor(a, pushed)) {
+                    stabilize(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * @return the data formerly at the front, or null if the deque is empty
+     */
+    public T removeFromFront() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.head == null) {
+                return null;
+            } else if (a.head == a.tail) {
+                if (casAnchor(a, new Anchor<>(null, null, STABLE, 0))) {
+                    return a.head.data;
+                }
+            } else if (a.status == STABLE) {
+                Anchor<T> popped = new Anchor<>(a.head.next, a.tail, STABLE,
+                        a.size - 1);
+                if (casAnchor(a, popped)) {
+                    return a.head.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * @return the data formerly at the back, or null if the deque is empty
+     */
+    public T removeFromBack() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.tail == null) {
+                return null;
+            } else if (a.head == a.tail) {
+                if (casAnchor(a, new Anchor<>(null, null, STABLE, 0))) {
+                    return a.tail.data;
+                }
+            } else if (a.status == STABLE) {
+                Anchor<T> popped = new Anchor<>(a.head, a.tail.previous,
+                        STABLE, a.size - 1);
+                if (casAnchor(a, popped)) {
+                    return a.tail.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Helper method that finishes a push recorded in the anchor: it links
+     * the old end node to the new one, then marks the anchor stable. Any
+     * thread may call this, and if another thread gets there first, it does
+     * nothing.
+     *
+     * @param a the anchor of the push
+     */
+    private void stabilize(Anchor<T> a) {
+        if (a.status == PUSHED_BACK) {
+            Node<T> previous = a.tail.previous;
+            Node<T> link = previous.next;
+            if (link != a.tail) {
+                if (anchor != a
+                        || !NEXT.compareAndSet(previous, link, a.tail)) {
+                    return;
+                }
+            }
+        } else if (a.status == PUSHED_FRONT) {
+            Node<T> next = a.head.next;
+            Node<T> link = next.previous;
+            if (link != a.head) {
+                if (anchor != a
+                        || !PREVIOUS.compareAndSet(next, link, a.head)) {
+                    return;
+                }
+            }
+        }
+        casAnchor(a, new Anchor<>(a.head, a.tail, STABLE, a.size));
+    }
+
+    /**
+     * Helper method that swaps in a new anchor if the anchor has not
+     * changed.
+     *
+     * @param expected the anchor the caller read
+     * @param update the anchor to replace it with
+     * @return true if the anchor was swapped
+     */
+    private boolean casAnchor(Anchor<T> expected, Anchor<T> update) {
+        return ANCHOR.compareAndSet(this, expected, update);
+    }
+
+    /**
+     * Helper method that returns the current anchor, finishing any push in
+     * progress first, so the nodes from its head to its tail are linked.
+     *
+     * @return a stable anchor
+     */
+    private Anchor<T> stableAnchor() {
+        Anchor<T> a = anchor;
+        while (a.status != STABLE) {
+            stabilize(a);
+            a = anchor;
+        }
+        return a;
+    }
+
+    /**
+     * Returns the first element of the deque without removing it.
+     *
+     * @return the data at the front, or null if the deque is empty
+     */
+    public T peekFront() {
+        Node<T> head = anchor.head;
+        return head == null ? null : head.data;
+    }
+
+    /**
+     * Returns the last element of the deque without removing it.
+     *
+     * @return the data at the back, or null if the deque is empty
+     */
+    public T peekBack() {
+        Node<T> tail = anchor.tail;
+        return tail == null ? null : tail.data;
+    }
+
+    /**
+     * Returns whether the deque is empty.
+     *
+     * @return true if the deque has no elements
+     */
+    public boolean isEmpty() {
+        return anchor.head == null;
+    }
+
+    /**
+     * Returns the number of elements in the deque. The size is stored with
+     * the ends of the deque, so it is exact at the moment it is read.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return anchor.size;
+    }
+
+    /**
+     * Returns an array of the elements from front to back. Like the
+     * iterator, this is weakly consistent when other threads change the
+     * deque during the call.
+     *
+     * @return an array of the elements
+     */
+    public Object[] toArray() {
+        Anchor<T> a = stableAnchor();
+        Object[] objects = new Object[a.size];
+        int count = 0;
+        for (Node<T> curr = a.head; curr != null && count < objects.length;
+                curr = curr.next) {
+            objects[count++] = curr.data;
+        }
+        return count == objects.length ? objects
+                : Arrays.copyOf(objects, count);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the deque, from front to
+     * back. It starts from the deque as it is when the iterator is created
+     * and visits at most that many elements. It may return elements that
+     * have since been removed, or reach elements added later.
+     *
+     * @return an iterator over the elements of this deque
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Anchor<T> a = stableAnchor();
+        return new Iterator<T>() {
+            private Node<T> next = a.head;
+            private int remaining = a.size;
+
+            @Override
+            public boolean hasNext() {
+                return next != null && remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements");
+                }
+
+                T data = next.data;
+                next = next.next;
+                remaining--;
+                return data;
+            }
+        };
+    }
+}
@@ -0,0 +1,453 @@
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Iterative number theory routines: greatest common divisor, least common
+ * multiple, extended gcd and modular inverse.
+ *
+ * {@link #gcd(long, long)} uses the binary (Stein) algorithm, which only
+ * shifts and subtracts and avoids the slow hardware divide that Euclid's
+ * algorithm needs every step. {@link #euclidGcd(long, long)} is the
+ * classic remainder loop. Both take O(log n) steps, unlike the repeated
+ * subtraction in {@link Recursion#gcd(int, int)}'s definition, which can
+ * take n steps.
+ *
+ * Like {@link Recursion#gcd(int, int)}, the primitive overloads only accept
+ * non-negative arguments.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class NumberTheory {
+    /**
+     * Arrays at least this long are reduced in parallel by the batch gcd
+     * methods.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int LEAF_SIZE = 1 << 13;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private NumberTheory() {
+    }
+
+    /**
+     * Returns the greatest common divisor of a and b, using the binary gcd
+     * algorithm. gcd(0, 0) is 0.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     * @throws IllegalArgumentException if a or b is negative
+     */
+    public static int gcd(int a, int b) {
+        checkNonNegative(a, b);
+        return binaryGcd(a, b);
+    }
+
+    /**
+     * Returns the greatest common divisor of a and b, using the binary gcd
+     * algorithm. gcd(0, 0) is 0.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     * @throws IllegalArgumentException if a or b is negative
+     */
+    public static long gcd(long a, long b) {
+        checkNonNegative(a, b);
+        return binaryGcd(a, b);
+    }
+
+    /**
+     * Returns the greatest common divisor of a and b, using Euclid's
+     * algorithm. gcd(0, 0) is 0.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     * @throws IllegalArgumentException if a or b is negative
+     */
+    public static long euclidGcd(long a, long b) {
+        checkNonNegative(a, b);
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    /**
+     * Returns the greatest common divisor of a and b. gcd(0, 0) is 0, and
+     * the result is never negative.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     * @throws IllegalArgumentException if a or b is null
+     */
+    public static BigInteger gcd(BigInteger a, BigInteger b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Numbers cannot be null");
+        }
+
+        return a.gcd(b);
+    }
+
+    /**
+     * Returns the greatest common divisor of every number in the array.
+     * Large arrays are split between the threads of the common fork-join
+     * pool. Each part stops computing gcds once its gcd reaches 1, but
+     * still checks every number.
+     *
+     * @param values the numbers
+     * @return the greatest common divisor, or 0 if the array is empty
+     * @throws IllegalArgumentException if values is null or holds a
+     * negative number
+     */
+    public static int gcd(int... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+
+        if (values.length < PARALLEL_THRESHOLD) {
+            return IntGcdTask.loop(values, 0, values.length);
+        }
+        return ForkJoinPool.commonPool().invoke(
+                new IntGcdTask(values, 0, values.length));
+    }
+
+    /**
+     * Returns the greatest common divisor of every number in the array.
+     * Large arrays are split between the threads of the common fork-join
+     * pool. Each part stops computing gcds once its gcd reaches 1, but
+     * still checks every number.
+     *
+     * @param values the numbers
+     * @return the greatest common divisor, or 0 if the array is empty
+     * @throws IllegalArgumentException if values is null or holds a
+     * negative number
+     */
+    public static long gcd(long... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+
+        if (values.length < PARALLEL_THRESHOLD) {
+            return LongGcdTask.loop(values, 0, values.length);
+        }
+        return ForkJoinPool.commonPool().invoke(
+                new LongGcdTask(values, 0, values.length));
+    }
+
+    /**
+     * Returns the least common multiple of a and b. lcm(0, b) is 0.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the least common multiple of a and b
+     * @throws IllegalArgumentException if a or b is negative
+     * @throws ArithmeticException if the result does not fit in an int
+     */
+    public static int lcm(int a, int b) {
+        checkNonNegative(a, b);
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return Math.multiplyExact(a / binaryGcd(a, b), b);
+    }
+
+    /**
+     * Returns the least common multiple of a and b. lcm(0, b) is 0.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the least common multiple of a and b
+     * @throws IllegalArgumentException if a or b is negative
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long lcm(long a, long b) {
+        checkNonNegative(a, b);
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return Math.multiplyExact(a / binaryGcd(a, b), b);
+    }
+
+    /**
+     * Returns the least common multiple of a and b. lcm(0, b) is 0, and the
+     * result is never negative.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the least common multiple of a and b
+     * @throws IllegalArgumentException if a or b is null
+     */
+    public static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Numbers cannot be null");
+        }
+
+        if (a.signum() == 0 || b.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        return a.divide(a.gcd(b)).multiply(b).abs();
+    }
+
+    /**
+     * Returns the greatest common divisor g of a and b together with
+     * coefficients x and y such that {@code a * x + b * y == g}.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the array {@code {g, x, y}}
+     * @throws IllegalArgumentException if a or b is negative
+     */
+    public static long[] extendedGcd(long a, long b) {
+        checkNonNegative(a, b);
+        long x = 1;
+        long y = 0;
+        long nextX = 0;
+        long nextY = 1;
+        while (b != 0) {
+            long quotient = a / b;
+            long remainder = a - quotient * b;
+            a = b;
+            b = remainder;
+            long temp = x - quotient * nextX;
+            x = nextX;
+            nextX = temp;
+            temp = y - quotient * nextY;
+            y = nextY;
+            nextY = temp;
+        }
+        return new long[] {a, x, y};
+    }
+
+    /**
+     * Returns the inverse of a modulo m: the number x between 0 and m - 1
+     * with {@code a * x % m == 1}.
+     *
+     * @param a the number to invert, which may be negative
+     * @param m the modulus
+     * @return the inverse of a modulo m
+     * @throws IllegalArgumentException if m is not positive
+     * @throws ArithmeticException if a and m are not coprime
+     */
+    public static long modInverse(long a, long m) {
+        if (m <= 0) {
+            throw new IllegalArgumentException("Modulus must be positive: "
+                    + m);
+        }
+
+        long[] result = extendedGcd(Math.floorMod(a, m), m);
+        if (result[0] != 1) {
+            throw new ArithmeticException(a + " is not invertible modulo "
+                    + m);
+        }
+        return Math.floorMod(result[1], m);
+    }
+
+    /**
+     * Helper method that computes a binary gcd. Both arguments must be
+     * non-negative.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     */
+    private static int binaryGcd(int a, int b) {
+        if (a == 0) {
+            return b;
+        } else if (b == 0) {
+            return a;
+        }
+
+        int aTwos = Integer.numberOfTrailingZeros(a);
+        a >>= aTwos;
+        int bTwos = Integer.numberOfTrailingZeros(b);
+        b >>= bTwos;
+        while (a != b) {
+            // Branch-free form of: if (a < b) swap; a -= b. The
+            // difference of two odd numbers is even, so it is then shifted
+            // odd again.
+            int delta = a - b;
+            int minDeltaOrZero = delta & (delta >> 31);
+            a = delta - minDeltaOrZero - minDeltaOrZero;
+            b += minDeltaOrZero;
+            a >>= Integer.numberOfTrailingZeros(a);
+        }
+        return a << Math.min(aTwos, bTwos);
+    }
+
+    /**
+     * Helper method that computes a binary gcd. Both arguments must be
+     * non-negative.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the greatest common divisor of a and b
+     */
+    private static long binaryGcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        } else if (b == 0) {
+            return a;
+        }
+
+        int aTwos = Long.numberOfTrailingZeros(a);
+        a >>= aTwos;
+        int bTwos = Long.numberOfTrailingZeros(b);
+        b >>= bTwos;
+        while (a != b) {
+            long delta = a - b;
+            long minDeltaOrZero = delta & (delta >> 63);
+            a = delta - minDeltaOrZero - minDeltaOrZero;
+            b += minDeltaOrZero;
+            a >>= Long.numberOfTrailingZeros(a);
+        }
+        return a << Math.min(aTwos, bTwos);
+    }
+
+    /**
+     * Helper method that throws if either number is negative.
+     *
+     * @param a the first number
+     * @param b the second number
+     */
+    private static void checkNonNegative(long a, long b) {
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("A: " + a + ", B: " + b);
+        }
+    }
+
+    /**
+     * Computes the gcd of a range of an int array, splitting the range in
+     * half until it is small enough to loop over.
+     */
+    private static final class IntGcdTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] values;
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a task for a range of the array.
+         *
+         * @param values the array
+         * @param start the first index, inclusive
+         * @param end the last index, exclusive
+         */
+        private IntGcdTask(int[] values, int start, int end) {
+            this.values = values;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (end - start <= LEAF_SIZE) {
+                return loop(values, start, end);
+            }
+
+            int middle = (start + end) >>> 1;
+            IntGcdTask left = new IntGcdTask(values, start, middle);
+            left.fork();
+            int right = new IntGcdTask(values, middle, end).compute();
+            return gcd(right, left.join());
+        }
+
+        /**
+         * Computes the gcd of a range of the array in a loop. Once the gcd
+         * reaches 1 the rest of the range is only checked for negatives.
+         *
+         * @param values the array
+         * @param start the first index, inclusive
+         * @param end the last index, exclusive
+         * @return the gcd of the range
+         * @throws IllegalArgumentException if any value in the range is
+         * negative
+         */
+        private static int loop(int[] values, int start, int end) {
+            int result = 0;
+            for (int i = start; i < end; i++) {
+                if (values[i] < 0) {
+                    throw new IllegalArgumentException("Value at " + i + ": "
+                            + values[i]);
+                }
+                if (result != 1) {
+                    result = gcd(result, values[i]);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Computes the gcd of a range of a long array, splitting the range in
+     * half until it is small enough to loop over.
+     */
+    private static final class LongGcdTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a task for a range of the array.
+         *
+         * @param values the array
+         * @param start the first index, inclusive
+         * @param end the last index, exclusive
+         */
+        private LongGcdTask(long[] values, int start, int end) {
+            this.values = values;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (end - start <= LEAF_SIZE) {
+                return loop(values, start, end);
+            }
+
+            int middle = (start + end) >>> 1;
+            LongGcdTask left = new LongGcdTask(values, start, middle);
+            left.fork();
+            long right = new LongGcdTask(values, middle, end).compute();
+            return gcd(right, left.join());
+        }
+
+        /**
+         * Computes the gcd of a range of the array in a loop. Once the gcd
+         * reaches 1 the rest of the range is only checked for negatives.
+         *
+         * @param values the array
+         * @param start the first index, inclusive
+         * @param end the last index, exclusive
+         * @return the gcd of the range
+         * @throws IllegalArgumentException if any value in the range is
+         * negative
+         */
+        private static long loop(long[] values, int start, int end) {
+            long result = 0;
+            for (int i = start; i < end; i++) {
+                if (values[i] < 0) {
+                    throw new IllegalArgumentException("Value at " + i + ": "
+                            + values[i]);
+                }
+                if (result != 1) {
+                    result = gcd(result, values[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
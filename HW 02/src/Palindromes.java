@@ -0,0 +1,231 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Iterative palindrome routines for large inputs.
+ *
+ * The checkers compare characters from both ends inward in a loop, so they
+ * use O(1) extra space and no recursion. A file can be checked without
+ * reading it into memory. The longest palindromic substring and the number
+ * of palindromic substrings are found with Manacher's algorithm in O(n)
+ * time.
+ *
+ * As in {@link Recursion#isPalindrome(String)}, two characters are the same
+ * only if they have the same value: there is no case conversion, and
+ * spaces count.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class Palindromes {
+    /**
+     * The largest part of a file mapped into memory at once, from each end.
+     */
+    private static final int WINDOW = 1 << 24;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private Palindromes() {
+    }
+
+    /**
+     * Returns whether the text reads the same backward as forward.
+     *
+     * @param text the text to test
+     * @return true if text is a palindrome
+     * @throws IllegalArgumentException if text is null
+     */
+    public static boolean isPalindrome(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        for (int i = 0, j = text.length() - 1; i < j; i++, j--) {
+            if (text.charAt(i) != text.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the characters read the same backward as forward.
+     *
+     * @param text the characters to test
+     * @return true if text is a palindrome
+     * @throws IllegalArgumentException if text is null
+     */
+    public static boolean isPalindrome(char[] text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        return isPalindrome(text, 0, text.length);
+    }
+
+    /**
+     * Returns whether a range of the characters reads the same backward as
+     * forward.
+     *
+     * @param text the characters to test
+     * @param start the first index of the range, inclusive
+     * @param end the last index of the range, exclusive
+     * @return true if the range is a palindrome
+     * @throws IllegalArgumentException if text is null
+     * @throws IndexOutOfBoundsException if the range is not within text
+     */
+    public static boolean isPalindrome(char[] text, int start, int end) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        } else if (start < 0 || end > text.length || start > end) {
+            throw new IndexOutOfBoundsException("Start: " + start + ", End: "
+                    + end + ", Length: " + text.length);
+        }
+
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            if (text[i] != text[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the bytes of a file read the same backward as
+     * forward. Bytes are compared one by one, which matches comparing
+     * characters for ASCII and other single-byte encodings.
+     *
+     * The file is memory-mapped in windows of at most 16 MB from each end,
+     * moving inward, so files of any size can be checked without reading
+     * them onto the heap.
+     *
+     * @param file the file to test
+     * @return true if the file's contents are a palindrome
+     * @throws IllegalArgumentException if file is null
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isPalindrome(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            long front = 0;
+            long back = channel.size();
+            while (back - front > 1) {
+                int length = (int) Math.min(WINDOW, (back - front) / 2);
+                MappedByteBuffer head = channel.map(
+                        FileChannel.MapMode.READ_ONLY, front, length);
+                MappedByteBuffer tail = channel.map(
+                        FileChannel.MapMode.READ_ONLY, back - length, length);
+                for (int i = 0, j = length - 1; i < length; i++, j--) {
+                    if (head.get(i) != tail.get(j)) {
+                        return false;
+                    }
+                }
+                front += length;
+                back -= length;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the longest substring of the text that is a palindrome, using
+     * Manacher's algorithm in O(n) time. If there are several, the first
+     * one is returned.
+     *
+     * @param text the text to search
+     * @return the longest palindromic substring, which is empty only if
+     * text is
+     * @throws IllegalArgumentException if text is null
+     */
+    public static String longestPalindrome(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        int[] odd = radii(text, true);
+        int[] even = radii(text, false);
+        int bestStart = 0;
+        int bestLength = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int oddLength = 2 * odd[i] - 1;
+            if (oddLength > bestLength
+                    || oddLength == bestLength && i - odd[i] + 1 < bestStart) {
+                bestStart = i - odd[i] + 1;
+                bestLength = oddLength;
+            }
+            int evenLength = 2 * even[i];
+            if (evenLength > bestLength
+                    || evenLength == bestLength && i - even[i] < bestStart) {
+                bestStart = i - even[i];
+                bestLength = evenLength;
+            }
+        }
+        return text.subSequence(bestStart, bestStart + bestLength).toString();
+    }
+
+    /**
+     * Returns the number of substrings of the text that are palindromes,
+     * counting each position separately, using Manacher's algorithm in
+     * O(n) time. Every single character counts, so "aaa" has 6.
+     *
+     * @param text the text to search
+     * @return the number of palindromic substrings
+     * @throws IllegalArgumentException if text is null
+     */
+    public static long countPalindromes(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        long count = 0;
+        for (int radius : radii(text, true)) {
+            count += radius;
+        }
+        for (int radius : radii(text, false)) {
+            count += radius;
+        }
+        return count;
+    }
+
+    /**
+     * Helper method that runs Manacher's algorithm. For odd palindromes,
+     * radius i is the number of palindromes centered on character i. For
+     * even palindromes, it is the number centered between characters i - 1
+     * and i. Each center starts from the radius of its mirror in the
+     * rightmost palindrome found so far, so the scan never moves backward
+     * and the whole pass is O(n).
+     *
+     * @param text the text to search
+     * @param odd whether to find odd rather than even length palindromes
+     * @return the radius of every center
+     */
+    private static int[] radii(CharSequence text, boolean odd) {
+        int n = text.length();
+        int shift = odd ? 0 : 1;
+        int[] radii = new int[n];
+        int left = 0;
+        int right = -1;
+        for (int i = 0; i < n; i++) {
+            int k = i > right ? 1 - shift
+                    : Math.min(radii[left + right - i + shift], right - i + 1);
+            while (i - k - shift >= 0 && i + k < n
+                    && text.charAt(i - k - shift) == text.charAt(i + k)) {
+                k++;
+            }
+            radii[i] = k;
+            if (i + k - 1 > right) {
+                left = i - k + 1 - shift;
+                right = i + k - 1;
+            }
+        }
+        return radii;
+    }
+}
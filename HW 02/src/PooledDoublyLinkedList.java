@@ -0,0 +1,370 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * My implementation of a DoublyLinkedList that stores its nodes as parallel
+ * arrays instead of node objects.
+ *
+ * A node is an int slot: {@code data[slot]}, {@code next[slot]} and
+ * {@code previous[slot]} hold what a LinkedListNode would. Removed slots go
+ * on a free list, threaded through {@code next}, and are reused by later
+ * adds. Once the arrays are large enough for the working set, adding and
+ * removing allocate nothing, and traversal walks three dense arrays instead
+ * of chasing pointers across the heap.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class PooledDoublyLinkedList<T> implements LinkedListInterface<T>,
+        Iterable<T> {
+    /**
+     * The initial number of slots in the pool.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private static final int NIL = -1;
+
+    private Object[] data;
+    private int[] next;
+    private int[] previous;
+    private int head = NIL;
+    private int tail = NIL;
+    private int free = NIL;
+    private int used;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs a new PooledDoublyLinkedList.
+     */
+    public PooledDoublyLinkedList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new PooledDoublyLinkedList with room for the given number
+     * of elements before the pool has to grow.
+     *
+     * @param initialCapacity the initial number of slots in the pool
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public PooledDoublyLinkedList(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        data = new Object[initialCapacity];
+        next = new int[initialCapacity];
+        previous = new int[initialCapacity];
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            int successor = slotAt(index);
+            int slot = allocate(data);
+            int predecessor = previous[successor];
+            next[slot] = successor;
+            previous[slot] = predecessor;
+            next[predecessor] = slot;
+            previous[successor] = slot;
+            size++;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        int slot = allocate(data);
+        previous[slot] = NIL;
+        next[slot] = head;
+        if (head == NIL) {
+            tail = slot;
+        } else {
+            previous[head] = slot;
+        }
+        head = slot;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        int slot = allocate(data);
+        next[slot] = NIL;
+        previous[slot] = tail;
+        if (tail == NIL) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method that takes a slot from the free list, or from the end of
+     * the pool if the free list is empty, and stores the data in it.
+     *
+     * @param element the data to store
+     * @return the slot holding the data
+     */
+    private int allocate(T element) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == data.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        data[slot] = element;
+        return slot;
+    }
+
+    /**
+     * Helper method that grows the pool by twice its size.
+     */
+    private void grow() {
+        int length = data.length << 1;
+        data = Arrays.copyOf(data, length);
+        next = Arrays.copyOf(next, length);
+        previous = Arrays.copyOf(previous, length);
+    }
+
+    /**
+     * Helper method that unlinks a slot and puts it on the free list.
+     *
+     * @param slot the slot to unlink, which must be in the list
+     * @return the data that was in the slot
+     */
+    @SuppressWarnings("unchecked")
+    private T unlink(int slot) {
+        int predecessor = previous[slot];
+        int successor = next[slot];
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            next[predecessor] = successor;
+        }
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            previous[successor] = predecessor;
+        }
+
+        T removed = (T) data[slot];
+        data[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Helper method that finds the slot at the given index, walking from
+     * whichever end of the list is closer.
+     *
+     * @param index the index of the element, which must be in bounds
+     * @return the slot holding that element
+     */
+    private int slotAt(int index) {
+        int slot;
+        if (index < (size >> 1)) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = previous[slot];
+            }
+        }
+        return slot;
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return unlink(slotAt(index));
+    }
+
+    @Override
+    public T removeFromFront() {
+        return head == NIL ? null : unlink(head);
+    }
+
+    @Override
+    public T removeFromBack() {
+        return tail == NIL ? null : unlink(tail);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (data.equals(this.data[slot])) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        return (T) data[slotAt(index)];
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] objects = new Object[size];
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            objects[i++] = data[slot];
+        }
+        return objects;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the list of all data.
+     *
+     * The pool keeps its arrays so they can be reused, which means the
+     * slots that were ever used are nulled out. This is O(n) in the largest
+     * size the list has reached rather than O(1).
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(data, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of slots in the pool.
+     *
+     * @return the number of elements the list can hold before growing
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns a node holding the data at the head of the list. This list
+     * does not store LinkedListNodes, so the node is detached and its
+     * references are null.
+     *
+     * @return a node with the head's data, or null if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public LinkedListNode<T> getHead() {
+        return head == NIL ? null : new LinkedListNode<>((T) data[head]);
+    }
+
+    /**
+     * Returns a node holding the data at the tail of the list. This list
+     * does not store LinkedListNodes, so the node is detached and its
+     * references are null.
+     *
+     * @return a node with the tail's data, or null if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public LinkedListNode<T> getTail() {
+        return tail == NIL ? null : new LinkedListNode<>((T) data[tail]);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list, from head to tail.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int slot = head;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return slot != NIL;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } else if (slot == NIL) {
+                    throw new NoSuchElementException("No more elements");
+                }
+
+                T element = (T) data[slot];
+                slot = next[slot];
+                return element;
+            }
+        };
+    }
+}
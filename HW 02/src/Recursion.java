@@ -23,6 +23,12 @@ public class Recursion {
      * This method must be computed recursively! Failure to do so will result
      * in zero credit for this method.
      *
+     * Peeling one pair of characters per call would make the recursion
+     * length / 2 deep and overflow the stack on long text. Instead, the
+     * pairs to compare are split in half on each call, so the recursion is
+     * only O(log n) deep. Pairs are still checked from the outside in. See
+     * {@link Palindromes} for iterative versions.
+     *
      * @param text The sequence that will be tested
      * @return Whether the passed in word is a palindrome
      * @throws IllegalArgumentException if text is null
@@ -32,28 +38,28 @@ public class Recursion {
             throw new IllegalArgumentException("Text cannot be null");
         }
 
-        return isPalindrome(text, 0, text.length() - 1);
+        return isPalindrome(text, 0, text.length() / 2);
     }
 
     /**
-     * The isPalindrome helper method.
+     * The isPalindrome helper method. Pair i is the character at index i
+     * and the character at index length - 1 - i.
      *
      * @param text  the sequence that will be tested
-     * @param start the starting index
-     * @param end   the ending index
-     * @return whether the passed in word is a palindrome
+     * @param start the first pair to compare, inclusive
+     * @param end   the last pair to compare, exclusive
+     * @return whether every pair in the range matches
      */
     private static boolean isPalindrome(String text, int start, int end) {
-        if (start <= end) {
-            if (text.isEmpty() || text.length() == 1) {
-                return true;
-            } else if (text.charAt(start) != text.charAt(end)) {
-                return false;
-            } else {
-                return isPalindrome(text, start + 1, end - 1);
-            }
+        if (end - start == 0) {
+            return true;
+        } else if (end - start == 1) {
+            return text.charAt(start) == text.charAt(text.length() - 1 - start);
         }
-        return true;
+
+        int middle = (start + end) >>> 1;
+        return isPalindrome(text, start, middle)
+                && isPalindrome(text, middle, end);
     }
 
     /**
@@ -72,6 +78,11 @@ public class Recursion {
      * handling negative numbers. Throw an IllegalArgumentException
      * if either x or y is negative.
      *
+     * Subtracting y from x until x < y leaves x % y, so each call takes
+     * that whole run of Case 1 steps at once. The recursion is then only
+     * O(log(min(x, y))) deep instead of up to max(x, y) deep. See
+     * {@link NumberTheory} for iterative versions.
+     *
      * @param x The first integer
      * @param y The second integer
      * @return The greatest common divisor of x and y
@@ -82,21 +93,9 @@ public class Recursion {
             throw new IllegalArgumentException("X: " + x + ", Y: " + y);
         }
 
-        if (x == 0) {
-            return y;
-        }
         if (y == 0) {
             return x;
         }
-
-        if (x > y) {
-            return gcd(x - y, y);
-        } else if (x < y) {
-            return gcd(x, y - x);
-        } else if (x == y) {
-            return x;
-        } else {
-            return 0;
-        }
+        return gcd(y, x % y);
     }
 }
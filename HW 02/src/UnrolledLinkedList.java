@@ -0,0 +1,454 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * My implementation of an unrolled doubly linked list.
+ *
+ * Each node holds a small array of elements instead of a single one. A scan
+ * touches one node per block of elements rather than one per element, so it
+ * takes far fewer cache misses, and the per-node header and links are shared
+ * by a whole block. A full node splits in two when an element is added to
+ * it, and a node is merged into its neighbor when the two together fit in
+ * one node again.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class UnrolledLinkedList<T> implements LinkedListInterface<T>,
+        Iterable<T> {
+    /**
+     * The default number of elements each node can hold.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Block head;
+    private Block tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * A node of the unrolled list. Elements are kept packed at the start
+     * of the array.
+     */
+    private static final class Block {
+        private final Object[] items;
+        private int count;
+        private Block previous;
+        private Block next;
+
+        /**
+         * Creates an empty block.
+         *
+         * @param capacity the number of elements the block can hold
+         */
+        private Block(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    /**
+     * Constructs a new UnrolledLinkedList with nodes of
+     * {@code DEFAULT_NODE_CAPACITY} elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new UnrolledLinkedList.
+     *
+     * @param nodeCapacity the number of elements each node can hold
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at"
+                    + " least 2: " + nodeCapacity);
+        }
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    @Override
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        } else if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (index == 0) {
+            addToFront(data);
+        } else if (index == size) {
+            addToBack(data);
+        } else {
+            Block block = head;
+            int offset = index;
+            if (index < (size >> 1)) {
+                while (offset >= block.count) {
+                    offset -= block.count;
+                    block = block.next;
+                }
+            } else {
+                block = tail;
+                offset = index - size;
+                while (offset < -block.count) {
+                    offset += block.count;
+                    block = block.previous;
+                }
+                offset += block.count;
+            }
+            insert(block, offset, data);
+        }
+    }
+
+    @Override
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (head == null || head.count == nodeCapacity) {
+            linkBefore(head);
+        }
+        insert(head, 0, data);
+    }
+
+    @Override
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        insert(tail, tail.count, data);
+    }
+
+    /**
+     * Helper method that inserts the data into a block, splitting the block
+     * in half first if it is full.
+     *
+     * @param block the block to insert into
+     * @param offset the index within the block for the new element
+     * @param data the data to insert
+     */
+    private void insert(Block block, int offset, T data) {
+        if (block.count == nodeCapacity) {
+            Block sibling = linkAfter(block);
+            int half = nodeCapacity >> 1;
+            int moved = nodeCapacity - half;
+            System.arraycopy(block.items, half, sibling.items, 0, moved);
+            Arrays.fill(block.items, half, nodeCapacity, null);
+            block.count = half;
+            sibling.count = moved;
+            if (offset > half) {
+                block = sibling;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(block.items, offset, block.items, offset + 1,
+                block.count - offset);
+        block.items[offset] = data;
+        block.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method that links an empty block before the given block, or as
+     * the only block if the list is empty.
+     *
+     * @param successor the block to link before, or null if there are none
+     * @return the new block
+     */
+    private Block linkBefore(Block successor) {
+        Block block = new Block(nodeCapacity);
+        if (successor == null) {
+            head = block;
+            tail = block;
+        } else {
+            block.next = successor;
+            block.previous = successor.previous;
+            if (successor.previous == null) {
+                head = block;
+            } else {
+                successor.previous.next = block;
+            }
+            successor.previous = block;
+        }
+        return block;
+    }
+
+    /**
+     * Helper method that links an empty block after the given block, or as
+     * the only block if the list is empty.
+     *
+     * @param predecessor the block to link after, or null if there are none
+     * @return the new block
+     */
+    private Block linkAfter(Block predecessor) {
+        Block block = new Block(nodeCapacity);
+        if (predecessor == null) {
+            head = block;
+            tail = block;
+        } else {
+            block.previous = predecessor;
+            block.next = predecessor.next;
+            if (predecessor.next == null) {
+                tail = block;
+            } else {
+                predecessor.next.previous = block;
+            }
+            predecessor.next = block;
+        }
+        return block;
+    }
+
+    /**
+     * Helper method that unlinks a block from the list.
+     *
+     * @param block the block to unlink
+     */
+    private void unlink(Block block) {
+        if (block.previous == null) {
+            head = block.next;
+        } else {
+            block.previous.next = block.next;
+        }
+        if (block.next == null) {
+            tail = block.previous;
+        } else {
+            block.next.previous = block.previous;
+        }
+    }
+
+    /**
+     * Helper method that removes an element from a block, then merges the
+     * block with a neighbor if the two now fit in a single block.
+     *
+     * @param block the block to remove from
+     * @param offset the index within the block of the element to remove
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private T remove(Block block, int offset) {
+        T removed = (T) block.items[offset];
+        System.arraycopy(block.items, offset + 1, block.items, offset,
+                block.count - offset - 1);
+        block.items[--block.count] = null;
+        size--;
+        modCount++;
+
+        if (block.count == 0) {
+            unlink(block);
+        } else if (block.next != null
+                && block.count + block.next.count <= nodeCapacity) {
+            merge(block, block.next);
+        } else if (block.previous != null
+                && block.previous.count + block.count <= nodeCapacity) {
+            merge(block.previous, block);
+        }
+        return removed;
+    }
+
+    /**
+     * Helper method that moves every element of a block into its
+     * predecessor and unlinks it.
+     *
+     * @param into the block to keep
+     * @param from the block after it, which is emptied and unlinked
+     */
+    private void merge(Block into, Block from) {
+        System.arraycopy(from.items, 0, into.items, into.count, from.count);
+        into.count += from.count;
+        unlink(from);
+    }
+
+    @Override
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        Block block;
+        int offset;
+        if (index < (size >> 1)) {
+            block = head;
+            offset = index;
+            while (offset >= block.count) {
+                offset -= block.count;
+                block = block.next;
+            }
+        } else {
+            block = tail;
+            offset = index - size;
+            while (offset < -block.count) {
+                offset += block.count;
+                block = block.previous;
+            }
+            offset += block.count;
+        }
+        return remove(block, offset);
+    }
+
+    @Override
+    public T removeFromFront() {
+        return head == null ? null : remove(head, 0);
+    }
+
+    @Override
+    public T removeFromBack() {
+        return tail == null ? null : remove(tail, tail.count - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        for (Block block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (data.equals(block.items[i])) {
+                    remove(block, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        if (index < (size >> 1)) {
+            Block block = head;
+            while (index >= block.count) {
+                index -= block.count;
+                block = block.next;
+            }
+            return (T) block.items[index];
+        } else {
+            Block block = tail;
+            int offset = index - size;
+            while (offset < -block.count) {
+                offset += block.count;
+                block = block.previous;
+            }
+            return (T) block.items[offset + block.count];
+        }
+    }
+
+    /**
+     * Returns a String message that shows the index and current size of the
+     * list.
+     *
+     * @param index the input typically for the add, remove, and get methods
+     * @return returns a descriptive message about the index and size
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] objects = new Object[size];
+        int i = 0;
+        for (Block block = head; block != null; block = block.next) {
+            System.arraycopy(block.items, 0, objects, i, block.count);
+            i += block.count;
+        }
+        return objects;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a node holding the first element of the list. This list
+     * stores blocks rather than LinkedListNodes, so the node is detached and
+     * its references are null.
+     *
+     * @return a node with the first element, or null if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public LinkedListNode<T> getHead() {
+        return head == null ? null : new LinkedListNode<>((T) head.items[0]);
+    }
+
+    /**
+     * Returns a node holding the last element of the list. This list stores
+     * blocks rather than LinkedListNodes, so the node is detached and its
+     * references are null.
+     *
+     * @return a node with the last element, or null if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public LinkedListNode<T> getTail() {
+        return tail == null ? null
+                : new LinkedListNode<>((T) tail.items[tail.count - 1]);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list, from head to tail.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Block block = head;
+            private int offset;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return block != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } else if (block == null) {
+                    throw new NoSuchElementException("No more elements");
+                }
+
+                T data = (T) block.items[offset++];
+                if (offset == block.count) {
+                    block = block.next;
+                    offset = 0;
+                }
+                return data;
+            }
+        };
+    }
+}
@@ -3,20 +3,47 @@ import java.util.NoSuchElementException;
 /**
  * My implementation of an array-backed queue.
  *
+ * By default the backing array only grows. A queue constructed with
+ * auto-shrink on also halves the array when it is less than a quarter full
+ * and at least {@code SHRINK_DWELL} dequeues have happened since the array
+ * last changed size, but never below {@code INITIAL_CAPACITY}. After
+ * halving, the array is still at most half full, so a queue whose size
+ * hovers near a threshold does not keep growing and shrinking.
+ * {@link #trimToSize()} shrinks the array on demand.
+ *
  * @author Jalo Moster
  * @version 1.0
  */
 public class ArrayQueue<T> implements QueueInterface<T> {
+    /**
+     * The number of dequeues since the last resize before an auto-shrinking
+     * queue may halve its backing array.
+     */
+    public static final int SHRINK_DWELL = 1024;
+
+    private final boolean autoShrink;
     private T[] backingArray;
     private int front;
     private int back;
     private int size;
+    private int dequeuesSinceResize;
 
     /**
      * Constructs a new ArrayQueue.
      */
-    @SuppressWarnings("unchecked")
     public ArrayQueue() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new ArrayQueue that may shrink its backing array.
+     *
+     * @param autoShrink whether to halve the backing array when it stays
+     * less than a quarter full
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayQueue(boolean autoShrink) {
+        this.autoShrink = autoShrink;
         backingArray = (T[]) new Object[INITIAL_CAPACITY];
         size = 0;
     }
@@ -24,7 +51,7 @@ public class ArrayQueue<T> implements QueueInterface<T> {
     /**
      * Dequeue from the front of the queue.
      *
-     * Do not shrink the backing array.
+     * Do not shrink the backing array, unless auto-shrink is on.
      * If the queue becomes empty as a result of this call, you must not
      * explicitly reset front or back to 0.
      *
@@ -38,9 +65,12 @@ public class ArrayQueue<T> implements QueueInterface<T> {
         } else {
             data = backingArray[front];
             backingArray[front] = null;
-            front = (front + 1) % backingArray.length;
+            front = front + 1 == backingArray.length ? 0 : front + 1;
         }
         size--;
+        if (autoShrink) {
+            shrinkIfSparse();
+        }
         return data;
     }
 
@@ -66,22 +96,81 @@ public class ArrayQueue<T> implements QueueInterface<T> {
         }
 
         backingArray[back] = data;
-        back = (back + 1) % backingArray.length;
+        back = back + 1 == backingArray.length ? 0 : back + 1;
         size++;
     }
 
     /**
-     * Helper method that grows the backing array to twice its capacity.
+     * Helper method that grows the backing array to twice its capacity. The
+     * array is full, so the elements are the run from front to the end of
+     * the array followed by the run from 0 to front, and each run is copied
+     * in one block.
      */
     @SuppressWarnings("unchecked")
     private void grow() {
         T[] temp = (T[]) new Object[size << 1];
-        for (int i = 0; i < size; i++) {
-            temp[i] = backingArray[(i + front) % size];
-        }
+        int firstRun = backingArray.length - front;
+        System.arraycopy(backingArray, front, temp, 0, firstRun);
+        System.arraycopy(backingArray, 0, temp, firstRun, front);
         backingArray = temp;
         front = 0;
         back = size;
+        dequeuesSinceResize = 0;
+    }
+
+    /**
+     * Helper method that halves the backing array if it has been less than
+     * a quarter full for long enough.
+     */
+    private void shrinkIfSparse() {
+        if (dequeuesSinceResize < SHRINK_DWELL) {
+            dequeuesSinceResize++;
+        }
+        if (dequeuesSinceResize >= SHRINK_DWELL
+                && size < backingArray.length >> 2
+                && backingArray.length > INITIAL_CAPACITY) {
+            resize(Math.max(backingArray.length >> 1, INITIAL_CAPACITY));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the queue, but not below
+     * {@code INITIAL_CAPACITY}.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        if (capacity < backingArray.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Helper method that moves the elements to the front of a new backing
+     * array, copying the run from front to the end of the old array and
+     * then the run that wrapped around to its start.
+     *
+     * @param capacity the length of the new array, at least the size
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        T[] temp = (T[]) new Object[capacity];
+        int firstRun = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, temp, 0, firstRun);
+        System.arraycopy(backingArray, 0, temp, firstRun, size - firstRun);
+        backingArray = temp;
+        front = 0;
+        back = size == capacity ? 0 : size;
+        dequeuesSinceResize = 0;
+    }
+
+    /**
+     * Returns the length of the backing array, which is the number of
+     * elements the queue can hold before it has to grow.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
     }
 
     @Override
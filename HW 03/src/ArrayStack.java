@@ -1,20 +1,48 @@
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 /**
  * My implementation of an array-backed stack.
  *
+ * By default the backing array only grows. A stack constructed with
+ * auto-shrink on also halves the array when it is less than a quarter full
+ * and at least {@code SHRINK_DWELL} pops have happened since the array last
+ * changed size, but never below {@code INITIAL_CAPACITY}. After halving,
+ * the array is still at most half full, so a stack whose size hovers near
+ * a threshold does not keep growing and shrinking. {@link #trimToSize()}
+ * shrinks the array on demand.
+ *
  * @author Jalo Moster
  * @version 1.0
  */
 public class ArrayStack<T> implements StackInterface<T> {
+    /**
+     * The number of pops since the last resize before an auto-shrinking
+     * stack may halve its backing array.
+     */
+    public static final int SHRINK_DWELL = 1024;
+
+    private final boolean autoShrink;
     private T[] backingArray;
     private int size;
+    private int popsSinceResize;
 
     /**
      * Constructs a new ArrayStack.
      */
-    @SuppressWarnings("unchecked")
     public ArrayStack() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new ArrayStack that may shrink its backing array.
+     *
+     * @param autoShrink whether to halve the backing array when it stays
+     * less than a quarter full
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayStack(boolean autoShrink) {
+        this.autoShrink = autoShrink;
         backingArray = (T[]) new Object[INITIAL_CAPACITY];
         size = 0;
     }
@@ -22,7 +50,7 @@ public class ArrayStack<T> implements StackInterface<T> {
     /**
      * Pop from the stack.
      *
-     * Do not shrink the backing array.
+     * Do not shrink the backing array, unless auto-shrink is on.
      *
      * @see StackInterface#pop()
      */
@@ -35,6 +63,9 @@ public class ArrayStack<T> implements StackInterface<T> {
         T popped = backingArray[size - 1];
         backingArray[size - 1] = null;
         size--;
+        if (autoShrink) {
+            shrinkIfSparse();
+        }
         return popped;
     }
 
@@ -70,6 +101,53 @@ public class ArrayStack<T> implements StackInterface<T> {
             temp[i] = backingArray[i];
         }
         backingArray = temp;
+        popsSinceResize = 0;
+    }
+
+    /**
+     * Helper method that halves the backing array if it has been less than
+     * a quarter full for long enough.
+     */
+    private void shrinkIfSparse() {
+        if (popsSinceResize < SHRINK_DWELL) {
+            popsSinceResize++;
+        }
+        if (popsSinceResize >= SHRINK_DWELL
+                && size < backingArray.length >> 2
+                && backingArray.length > INITIAL_CAPACITY) {
+            resize(Math.max(backingArray.length >> 1, INITIAL_CAPACITY));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the stack, but not below
+     * {@code INITIAL_CAPACITY}.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        if (capacity < backingArray.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Helper method that copies the elements into a new backing array.
+     *
+     * @param capacity the length of the new array, at least the size
+     */
+    private void resize(int capacity) {
+        backingArray = Arrays.copyOf(backingArray, capacity);
+        popsSinceResize = 0;
+    }
+
+    /**
+     * Returns the length of the backing array, which is the number of
+     * elements the stack can hold before it has to grow.
+     *
+     * @return the capacity of the stack
+     */
+    public int getCapacity() {
+        return backingArray.length;
     }
 
     @Override
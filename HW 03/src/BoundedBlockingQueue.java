@@ -0,0 +1,341 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of a bounded, thread-safe blocking queue for any number
+ * of producer and consumer threads.
+ *
+ * The elements live in a ring array whose length is the capacity. One
+ * {@link ReentrantLock} guards the queue, with one condition that producers
+ * wait on while the queue is full and one that consumers wait on while it
+ * is empty. Producers that get ahead of consumers are therefore slowed down
+ * instead of filling the heap. Waiting parks the thread through the lock's
+ * conditions rather than {@code synchronized} and {@code Object.wait}, so a
+ * virtual thread that blocks here releases its carrier thread.
+ *
+ * {@link #enqueue} and {@link #dequeue} follow {@link QueueInterface} and
+ * never wait: they throw if the queue is full or empty. {@link #offer} and
+ * {@link #poll} report that instead, and {@link #put}, {@link #take} and the
+ * timed versions wait for room or for data.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class BoundedBlockingQueue<T> implements QueueInterface<T> {
+    private final T[] backingArray;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new BoundedBlockingQueue.
+     *
+     * @param capacity the largest number of elements the queue can hold
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        }
+
+        backingArray = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Add the given data to the queue without waiting.
+     *
+     * @throws IllegalStateException if the queue is full
+     * @see QueueInterface#enqueue(T)
+     */
+    @Override
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Dequeue from the front of the queue without waiting.
+     *
+     * @see QueueInterface#dequeue()
+     */
+    @Override
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("Queue cannot be empty");
+        }
+        return data;
+    }
+
+    /**
+     * Adds the given data to the back of the queue if there is room.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the queue is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        lock.lock();
+        try {
+            if (size == backingArray.length) {
+                return false;
+            }
+            insert(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given data to the back of the queue, waiting up to the given
+     * time for room.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return true if the data was added, false if the time ran out first
+     * @throws IllegalArgumentException if data or unit is null
+     * @throws InterruptedException if the thread is interrupted while
+     * waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        } else if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == backingArray.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given data to the back of the queue, waiting for room if the
+     * queue is full.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     * @throws InterruptedException if the thread is interrupted while
+     * waiting
+     */
+    public void put(T data) throws InterruptedException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            while (size == backingArray.length) {
+                notFull.await();
+            }
+            insert(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue if there is
+     * any.
+     *
+     * @return the data formerly at the front, or null if the queue is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue, waiting up to
+     * the given time for data to arrive.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return the data formerly at the front, or null if the time ran out
+     * first
+     * @throws IllegalArgumentException if unit is null
+     * @throws InterruptedException if the thread is interrupted while
+     * waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue, waiting for
+     * data if the queue is empty.
+     *
+     * @return the data formerly at the front
+     * @throws InterruptedException if the thread is interrupted while
+     * waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue without
+     * waiting and passes each to the consumer in order.
+     *
+     * The whole batch is taken under one acquisition of the lock, so other
+     * threads wait while the consumer runs; keep it short. Each element is
+     * removed before it is passed on, so if the consumer throws, the queue
+     * holds exactly the elements it has not seen.
+     *
+     * @param consumer the consumer of the removed elements
+     * @param max the largest number of elements to remove
+     * @return the number of elements removed
+     * @throws IllegalArgumentException if consumer is null or max is
+     * negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        } else if (max < 0) {
+            throw new IllegalArgumentException("Max: " + max);
+        }
+
+        lock.lock();
+        int count = 0;
+        try {
+            int limit = Math.min(max, size);
+            while (count < limit) {
+                T data = backingArray[front];
+                backingArray[front] = null;
+                front = front + 1 == backingArray.length ? 0 : front + 1;
+                size--;
+                count++;
+                consumer.accept(data);
+            }
+        } finally {
+            for (int i = count; i > 0 && lock.hasWaiters(notFull); i--) {
+                notFull.signal();
+            }
+            lock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * Helper method that adds data at the back and wakes a waiting consumer.
+     * The lock must be held and the queue must not be full.
+     *
+     * @param data the data to add
+     */
+    private void insert(T data) {
+        int back = front + size;
+        if (back >= backingArray.length) {
+            back -= backingArray.length;
+        }
+        backingArray[back] = data;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Helper method that removes the data at the front and wakes a waiting
+     * producer. The lock must be held and the queue must not be empty.
+     *
+     * @return the data formerly at the front
+     */
+    private T extract() {
+        T data = backingArray[front];
+        backingArray[front] = null;
+        front = front + 1 == backingArray.length ? 0 : front + 1;
+        size--;
+        notFull.signal();
+        return data;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements that can be added before the queue is
+     * full.
+     *
+     * @return the free space in the queue
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return backingArray.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the largest number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+}
@@ -0,0 +1,226 @@
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of an array-backed queue whose capacity is always a
+ * power of two.
+ *
+ * Because the capacity is a power of two, an index wraps around the end of
+ * the backing array with a bitmask instead of a division. Growing doubles
+ * the array and copies the two runs of the old ring with one
+ * System.arraycopy each. {@link #enqueueAll(Collection)} and
+ * {@link #drainTo(Consumer, int)} move whole batches at once.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class RingBufferQueue<T> implements QueueInterface<T> {
+    /**
+     * The largest capacity of the backing array.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private T[] backingArray;
+    private int mask;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new RingBufferQueue with the smallest power of two
+     * capacity that is at least {@code INITIAL_CAPACITY}.
+     */
+    public RingBufferQueue() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new RingBufferQueue with the smallest power of two
+     * capacity that is at least the given capacity.
+     *
+     * @param initialCapacity the number of elements the queue can hold
+     * before it has to grow
+     * @throws IllegalArgumentException if initialCapacity is negative or
+     * greater than {@code MAX_CAPACITY}
+     */
+    @SuppressWarnings("unchecked")
+    public RingBufferQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+
+        backingArray = (T[]) new Object[powerOfTwoAtLeast(initialCapacity)];
+        mask = backingArray.length - 1;
+    }
+
+    @Override
+    public T dequeue() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue cannot be empty");
+        }
+
+        T data = backingArray[front];
+        backingArray[front] = null;
+        front = (front + 1) & mask;
+        size--;
+        return data;
+    }
+
+    @Override
+    public void enqueue(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (size == backingArray.length) {
+            resize(size + 1);
+        }
+        backingArray[(front + size) & mask] = data;
+        size++;
+    }
+
+    /**
+     * Returns the data at the front of the queue without removing it.
+     *
+     * @return the data at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue cannot be empty");
+        }
+
+        return backingArray[front];
+    }
+
+    /**
+     * Adds every element of the collection to the back of the queue, in the
+     * collection's iteration order. The array grows at most once, and the
+     * elements are copied in at most two blocks.
+     *
+     * @param data the elements to add
+     * @throws IllegalArgumentException if data is null or holds null, in
+     * which case the queue is unchanged
+     */
+    public void enqueueAll(Collection<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        Object[] elements = data.toArray();
+        for (Object element : elements) {
+            if (element == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+        }
+        if (elements.length > backingArray.length - size) {
+            resize(size + elements.length);
+        }
+
+        int back = (front + size) & mask;
+        int firstRun = Math.min(elements.length, backingArray.length - back);
+        System.arraycopy(elements, 0, backingArray, back, firstRun);
+        System.arraycopy(elements, firstRun, backingArray, 0,
+                elements.length - firstRun);
+        size += elements.length;
+    }
+
+    /**
+     * Dequeues up to max elements from the front of the queue and passes
+     * each to the consumer in order. Each element is removed before it is
+     * passed on, so if the consumer throws, the queue holds exactly the
+     * elements it has not seen.
+     *
+     * @param consumer the consumer of the dequeued elements
+     * @param max the largest number of elements to dequeue
+     * @return the number of elements dequeued
+     * @throws IllegalArgumentException if consumer is null or max is
+     * negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        } else if (max < 0) {
+            throw new IllegalArgumentException("Max: " + max);
+        }
+
+        int count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            T data = backingArray[front];
+            backingArray[front] = null;
+            front = (front + 1) & mask;
+            size--;
+            consumer.accept(data);
+        }
+        return count;
+    }
+
+    /**
+     * Helper method that doubles the backing array until it holds at least
+     * the given number of elements, then copies the ring into the front of
+     * it in two blocks: from front to the end of the old array, then from 0
+     * up to the back.
+     *
+     * @param minCapacity the number of elements the array must hold
+     * @throws IllegalStateException if more than {@code MAX_CAPACITY}
+     * elements are needed
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Queue cannot hold more than "
+                    + MAX_CAPACITY + " elements");
+        }
+
+        T[] temp = (T[]) new Object[powerOfTwoAtLeast(minCapacity)];
+        int firstRun = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, temp, 0, firstRun);
+        System.arraycopy(backingArray, 0, temp, firstRun, size - firstRun);
+        backingArray = temp;
+        mask = temp.length - 1;
+        front = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least the given number,
+     * and at least 1.
+     *
+     * @param n a number between 0 and {@code MAX_CAPACITY}
+     * @return the power of two
+     */
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements the queue can hold before it has to
+     * grow. This is always a power of two.
+     *
+     * @return the length of the backing array
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Returns the backing array of this queue.
+     * Normally, you would not do this, but we need it for grading your work.
+     *
+     * DO NOT USE THIS METHOD IN YOUR CODE.
+     *
+     * @return the backing array
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+}
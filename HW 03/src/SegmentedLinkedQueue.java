@@ -0,0 +1,182 @@
+import java.util.NoSuchElementException;
+
+/**
+ * My implementation of a linked queue whose nodes are array segments.
+ *
+ * A {@link LinkedQueue} allocates a node for every element and drops it on
+ * dequeue. This queue links segments of {@code SEGMENT_SIZE} slots instead,
+ * so it allocates at most once per segment and stays unbounded. A segment
+ * that has been fully dequeued goes into a small pool of
+ * {@code POOL_LIMIT} segments, and the next segment the back of the queue
+ * needs comes from the pool. Once the pool is warm, a queue whose length
+ * stays within a range does not allocate at all on enqueue or dequeue.
+ * When the queue empties, the front and back go back to the start of the
+ * current segment, so a queue that keeps emptying never leaves it.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class SegmentedLinkedQueue<T> implements QueueInterface<T> {
+    /**
+     * The default number of slots in a segment.
+     */
+    public static final int SEGMENT_SIZE = 1024;
+
+    /**
+     * The largest number of drained segments kept for reuse.
+     */
+    public static final int POOL_LIMIT = 4;
+
+    private final int segmentSize;
+    private Segment<T> head;
+    private Segment<T> tail;
+    private int headIndex;
+    private int tailIndex;
+    private int size;
+    private Segment<T> pool;
+    private int poolSize;
+
+    /**
+     * A fixed-size block of slots, linked to the next block toward the back
+     * of the queue, or to the next free block in the pool.
+     */
+    private static final class Segment<T> {
+        private final T[] slots;
+        private Segment<T> next;
+
+        /**
+         * Creates an empty segment.
+         *
+         * @param length the number of slots
+         */
+        @SuppressWarnings("unchecked")
+        private Segment(int length) {
+            slots = (T[]) new Object[length];
+        }
+    }
+
+    /**
+     * Constructs a new SegmentedLinkedQueue with segments of
+     * {@code SEGMENT_SIZE} slots.
+     */
+    public SegmentedLinkedQueue() {
+        this(SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs a new SegmentedLinkedQueue.
+     *
+     * @param segmentSize the number of slots in each segment
+     * @throws IllegalArgumentException if segmentSize is not positive
+     */
+    public SegmentedLinkedQueue(int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size: "
+                    + segmentSize);
+        }
+
+        this.segmentSize = segmentSize;
+        head = new Segment<>(segmentSize);
+        tail = head;
+    }
+
+    /**
+     * Dequeue from the front of the queue.
+     *
+     * A segment is returned to the pool as soon as its last slot has been
+     * dequeued.
+     *
+     * @see QueueInterface#dequeue()
+     */
+    @Override
+    public T dequeue() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue cannot be empty");
+        }
+
+        T data = head.slots[headIndex];
+        head.slots[headIndex] = null;
+        headIndex++;
+        size--;
+        if (size == 0) {
+            headIndex = 0;
+            tailIndex = 0;
+        } else if (headIndex == segmentSize) {
+            Segment<T> drained = head;
+            head = head.next;
+            headIndex = 0;
+            recycle(drained);
+        }
+        return data;
+    }
+
+    /**
+     * Add the given data to the queue.
+     *
+     * When the back segment is full, a segment is taken from the pool, or
+     * allocated if the pool is empty, and linked after it.
+     *
+     * @see QueueInterface#enqueue(T)
+     */
+    @Override
+    public void enqueue(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        if (tailIndex == segmentSize) {
+            Segment<T> segment = obtain();
+            tail.next = segment;
+            tail = segment;
+            tailIndex = 0;
+        }
+        tail.slots[tailIndex] = data;
+        tailIndex++;
+        size++;
+    }
+
+    /**
+     * Helper method that returns a pooled segment, or a new one if the pool
+     * is empty.
+     *
+     * @return an empty, unlinked segment
+     */
+    private Segment<T> obtain() {
+        if (pool == null) {
+            return new Segment<>(segmentSize);
+        }
+
+        Segment<T> segment = pool;
+        pool = segment.next;
+        segment.next = null;
+        poolSize--;
+        return segment;
+    }
+
+    /**
+     * Helper method that puts a drained segment in the pool, unless the pool
+     * is full, in which case it is left for the garbage collector. Every
+     * slot of a drained segment is already null.
+     *
+     * @param segment the drained segment
+     */
+    private void recycle(Segment<T> segment) {
+        if (poolSize < POOL_LIMIT) {
+            segment.next = pool;
+            pool = segment;
+            poolSize++;
+        } else {
+            segment.next = null;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,258 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of a bounded, lock-free queue for exactly one producer
+ * thread and one consumer thread.
+ *
+ * The elements live in a preallocated array whose length is a power of
+ * two. The producer owns the tail sequence and the consumer owns the head
+ * sequence, and each publishes its progress with a release store that the
+ * other side reads with an acquire load. Nothing is locked and no
+ * compare-and-set is needed. Each sequence sits in its own padded object
+ * so the two threads never write to the same cache line, and each side
+ * keeps a cached copy of the other side's sequence so it only reads the
+ * shared one when the cache says the queue looks full or empty.
+ *
+ * Only one thread may call {@link #enqueue} and {@link #offer}, and only
+ * one thread may call {@link #dequeue}, {@link #poll}, {@link #peek} and
+ * {@link #drainTo}. {@link #size()} and {@link #isEmpty()} may be called
+ * from any thread.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class SpscRingQueue<T> implements QueueInterface<T> {
+    /**
+     * The largest capacity of the queue.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Sequence.class,
+                    "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final T[] backingArray;
+    private final int mask;
+    private final Sequence head = new Sequence();
+    private final Sequence tail = new Sequence();
+
+    /**
+     * Padding before a sequence, so the sequence does not share a cache
+     * line with whatever was allocated just before it.
+     */
+    private static class LeftPadding {
+        protected long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    /**
+     * A sequence number owned by one side of the queue, together with that
+     * side's cached copy of the other side's sequence. The value is only
+     * accessed through the VarHandle: a plain read by its owner, a release
+     * store to publish it and an acquire load by the other side. The fields
+     * are package-private so the outer class can reach them through a
+     * Sequence and make the VarHandle without private access.
+     */
+    private static class Value extends LeftPadding {
+        long value;
+        long cached;
+    }
+
+    /**
+     * A padded sequence. Fields of a superclass are laid out before those of
+     * a subclass, so the value and its cache sit between two blocks of
+     * padding.
+     */
+    private static final class Sequence extends Value {
+        protected long p9, p10, p11, p12, p13, p14, p15;
+    }
+
+    /**
+     * Constructs a new SpscRingQueue that holds at least the given number of
+     * elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the smallest number of elements the queue must hold
+     * @throws IllegalArgumentException if capacity is not positive or is
+     * greater than {@code MAX_CAPACITY}
+     */
+    @SuppressWarnings("unchecked")
+    public SpscRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        }
+
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1)
+                << 1;
+        backingArray = (T[]) new Object[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Adds the given data to the back of the queue if there is room. Only
+     * the producer thread may call this.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the queue is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        long t = (long) VALUE.get(tail);
+        if (t - tail.cached >= backingArray.length) {
+            tail.cached = (long) VALUE.getAcquire(head);
+            if (t - tail.cached >= backingArray.length) {
+                return false;
+            }
+        }
+        backingArray[(int) t & mask] = data;
+        VALUE.setRelease(tail, t + 1);
+        return true;
+    }
+
+    /**
+     * Add the given data to the queue. Only the producer thread may call
+     * this.
+     *
+     * @throws IllegalStateException if the queue is full
+     * @see QueueInterface#enqueue(T)
+     */
+    @Override
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue. Only the
+     * consumer thread may call this.
+     *
+     * @return the data formerly at the front, or null if the queue is empty
+     */
+    public T poll() {
+        long h = (long) VALUE.get(head);
+        if (h >= head.cached) {
+            head.cached = (long) VALUE.getAcquire(tail);
+            if (h >= head.cached) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        T data = backingArray[index];
+        backingArray[index] = null;
+        VALUE.setRelease(head, h + 1);
+        return data;
+    }
+
+    /**
+     * Dequeue from the front of the queue. Only the consumer thread may call
+     * this.
+     *
+     * @see QueueInterface#dequeue()
+     */
+    @Override
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("Queue cannot be empty");
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data at the front of the queue without removing it. Only
+     * the consumer thread may call this.
+     *
+     * @return the data at the front, or null if the queue is empty
+     */
+    public T peek() {
+        long h = (long) VALUE.get(head);
+        if (h >= head.cached) {
+            head.cached = (long) VALUE.getAcquire(tail);
+            if (h >= head.cached) {
+                return null;
+            }
+        }
+        return backingArray[(int) h & mask];
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and passes
+     * each to the consumer in order. Only the consumer thread may call this.
+     *
+     * The producer's sequence is read once and the consumer's is published
+     * once for the whole batch, so the producer sees the freed slots all at
+     * the end. If the consumer throws, the elements passed to it so far,
+     * including the one it threw on, are still removed.
+     *
+     * @param consumer the consumer of the removed elements
+     * @param max the largest number of elements to remove
+     * @return the number of elements removed
+     * @throws IllegalArgumentException if consumer is null or max is
+     * negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        } else if (max < 0) {
+            throw new IllegalArgumentException("Max: " + max);
+        }
+
+        long h = (long) VALUE.get(head);
+        head.cached = (long) VALUE.getAcquire(tail);
+        int count = (int) Math.min(max, head.cached - h);
+        int i = 0;
+        try {
+            while (i < count) {
+                int index = (int) (h + i) & mask;
+                T data = backingArray[index];
+                backingArray[index] = null;
+                i++;
+                consumer.accept(data);
+            }
+        } finally {
+            VALUE.setRelease(head, h + i);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Return the size of the queue. While the producer or consumer is
+     * running, the size may already be out of date when it is returned.
+     *
+     * @see QueueInterface#size()
+     */
+    @Override
+    public int size() {
+        long h = (long) VALUE.getAcquire(head);
+        long t = (long) VALUE.getAcquire(tail);
+        return (int) Math.max(0, Math.min(t - h, backingArray.length));
+    }
+
+    /**
+     * Returns the number of elements the queue can hold. This is always a
+     * power of two.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+}
@@ -0,0 +1,186 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * My implementation of the Chase-Lev work-stealing deque.
+ *
+ * One owner thread pushes and pops at the bottom, like an
+ * {@link ArrayStack}, and any number of other threads steal from the top.
+ * The owner's operations need no atomic instruction unless only one element
+ * is left, when the owner and the thieves race for it with a single
+ * compare-and-set on the top index. Stealing is one compare-and-set.
+ *
+ * The elements live in a circular array whose length is a power of two.
+ * The indices only ever grow, and an index maps to a slot by masking. When
+ * the array is full the owner copies the live range into an array twice as
+ * long. A thief still reading the old array sees the same elements there,
+ * since the owner never writes to an array after replacing it.
+ *
+ * The owner clears the slots it pops, but a slot that was stolen keeps its
+ * reference until the owner reuses the slot.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class WorkStealingDeque<T> {
+    /**
+     * The largest number of elements the deque can hold.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top",
+                    long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom",
+                    long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long top;
+    private volatile long bottom;
+    private volatile T[] backingArray;
+
+    /**
+     * Constructs a new, empty WorkStealingDeque.
+     */
+    @SuppressWarnings("unchecked")
+    public WorkStealingDeque() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Pushes the data onto the bottom of the deque. Only the owner thread
+     * may call this.
+     *
+     * @param data the data to push
+     * @throws IllegalArgumentException if data is null
+     * @throws IllegalStateException if the deque already holds
+     * {@code MAX_CAPACITY} elements
+     */
+    public void push(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+
+        long b = bottom;
+        long t = top;
+        T[] array = backingArray;
+        if (b - t >= array.length) {
+            array = grow(array, t, b);
+            backingArray = array;
+        }
+        array[(int) b & (array.length - 1)] = data;
+        BOTTOM.setRelease(this, b + 1);
+    }
+
+    /**
+     * Pops the data at the bottom of the deque, which is the data pushed
+     * most recently. Only the owner thread may call this.
+     *
+     * @return the data formerly at the bottom, or null if the deque is empty
+     * or a thief took the last element first
+     */
+    public T pop() {
+        long b = bottom - 1;
+        T[] array = backingArray;
+        // A volatile write followed by a volatile read is never reordered,
+        // so a thief either sees the smaller bottom or is seen in top.
+        bottom = b;
+        long t = top;
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+
+        int index = (int) b & (array.length - 1);
+        T data = array[index];
+        if (t < b) {
+            array[index] = null;
+            return data;
+        }
+
+        boolean won = TOP.compareAndSet(this, t, t + 1);
+        if (won) {
+            array[index] = null;
+        }
+        bottom = b + 1;
+        return won ? data : null;
+    }
+
+    /**
+     * Steals the data at the top of the deque, which is the oldest data.
+     * Any thread may call this.
+     *
+     * @return the data formerly at the top, or null if the deque is empty
+     * or another thread took the element first
+     */
+    public T steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+
+        T[] array = backingArray;
+        T data = array[(int) t & (array.length - 1)];
+        return TOP.compareAndSet(this, t, t + 1) ? data : null;
+    }
+
+    /**
+     * Helper method that copies the live range of the full array into an
+     * array twice as long.
+     *
+     * @param array the full array
+     * @param t the top index
+     * @param b the bottom index
+     * @param <T> the type of data in the array
+     * @return the new array
+     * @throws IllegalStateException if the array cannot grow any further
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] grow(T[] array, long t, long b) {
+        if (array.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Deque cannot hold more than "
+                    + MAX_CAPACITY + " elements");
+        }
+
+        T[] temp = (T[]) new Object[array.length << 1];
+        for (long i = t; i < b; i++) {
+            temp[(int) i & (temp.length - 1)] = array[(int) i
+                    & (array.length - 1)];
+        }
+        return temp;
+    }
+
+    /**
+     * Returns whether the deque is empty. While other threads are using the
+     * deque, the answer may already be out of date when it is returned.
+     *
+     * @return true if the deque has no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in the deque. While other threads are
+     * using the deque, the size may already be out of date when it is
+     * returned.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        long t = top;
+        long b = bottom;
+        return (int) Math.max(0, b - t);
+    }
+}
@@ -0,0 +1,466 @@
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * My implementation of a small fork-join scheduler built on
+ * {@link WorkStealingDeque}.
+ *
+ * Each worker thread owns a deque. A task forked by a worker is pushed onto
+ * that worker's deque, and the worker keeps popping its own newest tasks,
+ * so it works depth-first through its own part of the recursion. A worker
+ * that runs out steals the oldest task of another worker, which is the
+ * biggest piece of work that worker has not started. A worker waiting in
+ * {@link Task#join()} runs other tasks until the one it waits for is done,
+ * so joining never blocks a worker.
+ *
+ * A recursive algorithm becomes parallel by splitting in a {@link Task}:
+ * <pre>
+ *     protected void compute() {
+ *         if (high - low &lt; CUTOFF) {
+ *             sortSequentially(low, high);
+ *         } else {
+ *             int p = partition(low, high);
+ *             Task.invokeAll(new Sort(low, p - 1), new Sort(p + 1, high));
+ *         }
+ *     }
+ * </pre>
+ *
+ * Idle workers yield for a while and then park; forking wakes a parked
+ * worker. Waiting for a task outside the scheduler parks the waiting
+ * thread.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class WorkStealingScheduler implements AutoCloseable {
+    private static final int IDLE_SPINS = 64;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<Task> submissions =
+            new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    /**
+     * A piece of work that can split itself into smaller tasks with
+     * {@link #fork()} and wait for them with {@link #join()}. A task should
+     * be run only once.
+     */
+    public abstract static class Task {
+        private volatile boolean done;
+        private volatile Thread waiter;
+        private Throwable failure;
+
+        /**
+         * Does the work of this task, forking and joining subtasks as
+         * needed.
+         */
+        protected abstract void compute();
+
+        /**
+         * Schedules this task to run on the current worker's deque, where
+         * it can be stolen by other workers.
+         *
+         * @throws IllegalStateException if the current thread is not a
+         * worker of a scheduler
+         */
+        public final void fork() {
+            Thread thread = Thread.currentThread();
+            if (!(thread instanceof Worker)) {
+                throw new IllegalStateException(
+                        "Tasks can only be forked by a scheduler worker");
+            }
+
+            ((Worker) thread).fork(this);
+        }
+
+        /**
+         * Waits until this task is done. A worker runs other tasks while it
+         * waits, and any other thread parks.
+         *
+         * @throws RuntimeException if the task threw one
+         * @throws Error if the task threw one
+         */
+        public final void join() {
+            if (!done) {
+                Thread thread = Thread.currentThread();
+                if (thread instanceof Worker) {
+                    ((Worker) thread).helpUntilDone(this);
+                } else {
+                    awaitDone();
+                }
+            }
+            reportFailure();
+        }
+
+        /**
+         * Runs both tasks, the first on the current thread and the second
+         * wherever a worker picks it up, and waits for both. If either
+         * failed, the failure is rethrown after both are done.
+         *
+         * @param first the task to run now
+         * @param second the task to fork
+         * @throws IllegalStateException if the current thread is not a
+         * worker of a scheduler
+         */
+        public static void invokeAll(Task first, Task second) {
+            second.fork();
+            first.run();
+            second.join();
+            first.reportFailure();
+        }
+
+        /**
+         * Returns whether this task has finished running, normally or not.
+         *
+         * @return true if the task is done
+         */
+        public final boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Runs this task, records any failure, and wakes a thread waiting
+         * for it.
+         */
+        final void run() {
+            try {
+                compute();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            } finally {
+                finish();
+            }
+        }
+
+        /**
+         * Completes this task with the given failure without running it.
+         *
+         * @param e the failure to rethrow from {@link #join()}
+         */
+        final void reject(RuntimeException e) {
+            failure = e;
+            finish();
+        }
+
+        /**
+         * Marks this task done and wakes a thread waiting for it.
+         */
+        private void finish() {
+            done = true;
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /**
+         * Parks the current thread until this task is done. An interrupt
+         * does not stop the wait, but it is kept for the caller to see.
+         */
+        private void awaitDone() {
+            boolean interrupted = false;
+            waiter = Thread.currentThread();
+            while (!done) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            waiter = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Rethrows the failure of this task, if it had one.
+         */
+        private void reportFailure() {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+
+    /**
+     * A thread of the scheduler, with its own deque of forked tasks.
+     */
+    private final class Worker extends Thread {
+        private final WorkStealingDeque<Task> deque =
+                new WorkStealingDeque<>();
+        private int seed;
+        private volatile boolean parked;
+
+        /**
+         * Creates a worker.
+         *
+         * @param index the position of the worker, used in its name
+         */
+        private Worker(int index) {
+            super("work-stealing-worker-" + index);
+            seed = index * 0x9e3779b9 | 1;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (!shutdown) {
+                Task task = findTask();
+                if (task != null) {
+                    task.run();
+                    idle = 0;
+                } else if (++idle < IDLE_SPINS) {
+                    Thread.yield();
+                } else {
+                    park();
+                    idle = 0;
+                }
+            }
+        }
+
+        /**
+         * Pushes a forked task and wakes a parked worker to steal it.
+         *
+         * @param task the forked task
+         */
+        private void fork(Task task) {
+            deque.push(task);
+            signalWork();
+        }
+
+        /**
+         * Runs tasks until the given task is done: first this worker's own,
+         * then stolen ones.
+         *
+         * @param task the task to wait for
+         */
+        private void helpUntilDone(Task task) {
+            while (!task.isDone()) {
+                Task next = deque.pop();
+                if (next == null) {
+                    next = steal();
+                }
+                if (next != null) {
+                    next.run();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        /**
+         * Returns a task to run: this worker's newest task, else one stolen
+         * from another worker, else a submitted one.
+         *
+         * @return the task, or null if none was found
+         */
+        private Task findTask() {
+            Task task = deque.pop();
+            if (task == null) {
+                task = steal();
+            }
+            if (task == null) {
+                task = submissions.poll();
+            }
+            return task;
+        }
+
+        /**
+         * Tries to steal once from every other worker, starting at a random
+         * one.
+         *
+         * @return the stolen task, or null if none was found
+         */
+        private Task steal() {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            int start = (seed & Integer.MAX_VALUE) % workers.length;
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+                if (victim != this) {
+                    Task task = victim.deque.steal();
+                    if (task != null) {
+                        return task;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Parks this worker until it is woken or a short time passes. The
+         * worker announces itself as idle before checking for work one last
+         * time, so work published after the check always sees it.
+         */
+        private void park() {
+            parked = true;
+            idleWorkers.incrementAndGet();
+            if (!hasWork() && !shutdown) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            idleWorkers.decrementAndGet();
+            parked = false;
+        }
+    }
+
+    /**
+     * Constructs a new WorkStealingScheduler with one worker per available
+     * processor.
+     */
+    public WorkStealingScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new WorkStealingScheduler and starts its workers.
+     *
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public WorkStealingScheduler(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism: " + parallelism);
+        }
+
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Runs the task on this scheduler and waits for it to finish. Called
+     * from one of this scheduler's workers, the task runs right away on that
+     * worker.
+     *
+     * @param task the task to run
+     * @throws IllegalArgumentException if task is null
+     * @throws IllegalStateException if the scheduler has been closed
+     * @throws RejectedExecutionException if the scheduler was closed before
+     * a worker started the task
+     * @throws RuntimeException if the task threw one
+     * @throws Error if the task threw one
+     */
+    public void invoke(Task task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        } else if (shutdown) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+
+        if (isWorker(Thread.currentThread())) {
+            task.run();
+            task.reportFailure();
+            return;
+        }
+        submissions.add(task);
+        // close sets shutdown before draining the submissions, so either
+        // this sees shutdown or close sees the task.
+        if (shutdown && submissions.remove(task)) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+        signalWork();
+        task.join();
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of this scheduler
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Stops the workers and waits for them to exit. Submitted tasks that no
+     * worker has started fail with a {@link RejectedExecutionException},
+     * which wakes the threads waiting for them.
+     */
+    @Override
+    public void close() {
+        shutdown = true;
+        for (Task task = submissions.poll(); task != null;
+                task = submissions.poll()) {
+            task.reject(new RejectedExecutionException("Scheduler is closed"));
+        }
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        boolean interrupted = false;
+        for (Worker worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Helper method that wakes one parked worker, if any are parked. The
+     * fence orders the caller's publication of the work before the read of
+     * the idle count, pairing with the increment in park.
+     */
+    private void signalWork() {
+        VarHandle.fullFence();
+        if (idleWorkers.get() > 0) {
+            for (Worker worker : workers) {
+                if (worker.parked) {
+                    LockSupport.unpark(worker);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method that returns whether any deque or the submission queue
+     * has work.
+     *
+     * @return true if there is work to take
+     */
+    private boolean hasWork() {
+        if (!submissions.isEmpty()) {
+            return true;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Helper method that returns whether the thread is one of this
+     * scheduler's workers.
+     *
+     * @param thread the thread to check
+     * @return true if the thread is a worker of this scheduler
+     */
+    private boolean isWorker(Thread thread) {
+        for (Worker worker : workers) {
+            if (worker == thread) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
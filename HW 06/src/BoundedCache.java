@@ -0,0 +1,319 @@
+/**
+ * A cache that holds at most a fixed number of entries and evicts one,
+ * chosen by an {@link EvictionPolicy}, when a new entry would go over.
+ *
+ * Keys are indexed by the HW 06 {@link HashMap}, which maps each key to
+ * its {@link CacheNode}, and the policy keeps the nodes in its own linked
+ * lists. A hit therefore finds the node in O(1) expected time and moves it
+ * in O(1), instead of searching a list for it. Hits, misses and evictions
+ * are counted. The index is typed as the concrete HashMap rather than
+ * HashMapInterface because lookups use {@link HashMap#getOrDefault}, which
+ * finds a hit or a miss in one probe, while the interface's get throws on
+ * a miss.
+ *
+ * The HashMap probes linearly from {@code hashCode % length}, so keys with
+ * nearby hash codes, such as sequential Integers, pile up into long runs
+ * that every miss has to walk. The index therefore stores each key wrapped
+ * with a mixed hash code. Lookups reuse a single probe key, so a hit
+ * allocates nothing.
+ *
+ * The HashMap also marks removed entries instead of clearing them. Since
+ * a cache removes entries constantly, the index is sized up front so it
+ * never resizes, and it is rebuilt after every capacity / 2 removals to
+ * drop the markers, which keeps probes short at O(1) amortized cost.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class BoundedCache<K, V> {
+    private final int capacity;
+    private final int tableLength;
+    private final int rebuildThreshold;
+    private final HashMap<Key<K>, CacheNode<K, V>> index;
+    private final Key<K> probe = new Key<>();
+    private final EvictionPolicy<K, V> policy;
+    private int removals;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * A key in the index. The hash code of the wrapped key is mixed so
+     * nearby hash codes land far apart, and kept non-negative.
+     */
+    private static final class Key<K> {
+        private K key;
+        private int hash;
+
+        /**
+         * Points this key at the given key.
+         *
+         * @param key the key to wrap
+         * @return this key
+         */
+        private Key<K> set(K key) {
+            int h = key.hashCode() * 0x9e3779b9;
+            this.key = key;
+            this.hash = (h ^ (h >>> 16)) & Integer.MAX_VALUE;
+            return this;
+        }
+
+        /**
+         * Drops the wrapped key, so the probe does not keep it reachable.
+         */
+        private void clear() {
+            key = null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && key.equals(((Key<?>) o).key);
+        }
+    }
+
+    /**
+     * Constructs a new, empty BoundedCache that evicts the least recently
+     * used entry.
+     *
+     * @param capacity the maximum number of entries
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoundedCache(int capacity) {
+        this(capacity, EvictionPolicy.lru());
+    }
+
+    /**
+     * Constructs a new, empty BoundedCache.
+     *
+     * @param capacity the maximum number of entries
+     * @param policy the policy that chooses which entry to evict; it must
+     * be new and not shared with another cache
+     * @throws IllegalArgumentException if capacity is not positive, is too
+     * large to index, or policy is null
+     */
+    public BoundedCache(int capacity, EvictionPolicy<K, V> policy) {
+        if (capacity <= 0 || capacity > (Integer.MAX_VALUE - 1) / 2) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        } else if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+
+        this.capacity = capacity;
+        this.tableLength = 2 * capacity + 1;
+        this.rebuildThreshold = Math.max(1, capacity >> 1);
+        this.index = new HashMap<>(tableLength);
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the value for the key and marks it as used, or returns null
+     * and counts a miss if the key is not cached.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if there is none
+     * @throws IllegalArgumentException if key is null
+     */
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        CacheNode<K, V> node = lookup(key);
+        if (node == null) {
+            misses++;
+            policy.onMiss(key);
+            return null;
+        }
+        hits++;
+        policy.onAccess(node);
+        return node.getValue();
+    }
+
+    /**
+     * Caches the value for the key and marks it as used. If the key is new
+     * and the cache is full, the policy evicts an entry, which may be the
+     * new one.
+     *
+     * @param key the key to cache
+     * @param value the value to cache
+     * @return the value previously cached for the key, or null if there
+     * was none
+     * @throws IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key/Value cannot be null");
+        }
+
+        CacheNode<K, V> node = lookup(key);
+        if (node != null) {
+            V oldValue = node.getValue();
+            node.setValue(value);
+            policy.onAccess(node);
+            return oldValue;
+        }
+
+        node = new CacheNode<>(key, value);
+        index.put(new Key<K>().set(key), node);
+        policy.onAdd(node);
+        if (index.size() > capacity) {
+            forget(policy.evict().getKey());
+            evictions++;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the key from the cache. This does not count as a hit or miss.
+     *
+     * @param key the key to remove
+     * @return the value that was cached for the key, or null if there was
+     * none
+     * @throws IllegalArgumentException if key is null
+     */
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        CacheNode<K, V> node = lookup(key);
+        if (node == null) {
+            return null;
+        }
+        policy.onRemove(node);
+        forget(key);
+        return node.getValue();
+    }
+
+    /**
+     * Returns whether the key is cached, without marking it as used or
+     * counting a hit or miss.
+     *
+     * @param key the key to look up
+     * @return true if the key is cached
+     * @throws IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        return lookup(key) != null;
+    }
+
+    /**
+     * Helper method that finds the node for a key with a single probe of
+     * the index.
+     *
+     * @param key the key to look up
+     * @return the node for the key, or null if the key is not cached
+     */
+    private CacheNode<K, V> lookup(K key) {
+        CacheNode<K, V> node = index.getOrDefault(probe.set(key), null);
+        probe.clear();
+        return node;
+    }
+
+    /**
+     * Helper method that removes a key from the index, rebuilding the index
+     * once enough removed markers have built up.
+     *
+     * @param key the key to remove
+     */
+    private void forget(K key) {
+        index.remove(probe.set(key));
+        probe.clear();
+        if (++removals == rebuildThreshold) {
+            index.resizeBackingTable(tableLength);
+            removals = 0;
+        }
+    }
+
+    /**
+     * Removes every entry. The counters are not reset.
+     */
+    public void clear() {
+        index.clear();
+        index.resizeBackingTable(tableLength);
+        policy.clear();
+        removals = 0;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns whether the cache is empty.
+     *
+     * @return true if there are no entries
+     */
+    public boolean isEmpty() {
+        return index.size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new ones.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the fraction of lookups that found their key.
+     *
+     * @return the hit rate, or 0 if there have been no lookups
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * A doubly linked recency list of {@link CacheNode}s. The nodes are handed
+ * in by the caller, so moving an entry to the front is O(1) without a
+ * search.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class CacheList<K, V> {
+    private CacheNode<K, V> head;
+    private CacheNode<K, V> tail;
+    private int size;
+
+    /**
+     * Links a node at the front of the list.
+     *
+     * @param node the node to add, which must not be in any list
+     */
+    public void addToFront(CacheNode<K, V> node) {
+        node.setPrevious(null);
+        node.setNext(head);
+        if (head == null) {
+            tail = node;
+        } else {
+            head.setPrevious(node);
+        }
+        head = node;
+        size++;
+    }
+
+    /**
+     * Unlinks a node from the list.
+     *
+     * @param node the node to remove, which must be in this list
+     */
+    public void unlink(CacheNode<K, V> node) {
+        CacheNode<K, V> previous = node.getPrevious();
+        CacheNode<K, V> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+        size--;
+    }
+
+    /**
+     * Moves a node to the front of the list.
+     *
+     * @param node the node to move, which must be in this list
+     */
+    public void moveToFront(CacheNode<K, V> node) {
+        if (node != head) {
+            unlink(node);
+            addToFront(node);
+        }
+    }
+
+    /**
+     * Returns the most recently added or moved node.
+     *
+     * @return the head of the list, or null if the list is empty
+     */
+    public CacheNode<K, V> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the least recently added or moved node.
+     *
+     * @return the tail of the list, or null if the list is empty
+     */
+    public CacheNode<K, V> getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns the number of nodes in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return true if the list has no nodes
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Forgets every node in the list. The nodes themselves keep their
+     * links, so they must not be reused.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+}
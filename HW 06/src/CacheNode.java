@@ -0,0 +1,113 @@
+/**
+ * Node class used by the recency lists of a {@link BoundedCache}. It
+ * follows the design of LinkedListNode, but holds a key as well as the
+ * data, and the value can be replaced without relinking the node.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class CacheNode<K, V> {
+    private final K key;
+    private V value;
+    private CacheNode<K, V> previous;
+    private CacheNode<K, V> next;
+    private Object policyData;
+
+    /**
+     * Creates a new, unlinked CacheNode.
+     *
+     * @param key the key of the entry
+     * @param value the value of the entry
+     */
+    public CacheNode(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Gets the key stored in the node.
+     *
+     * @return the key in this node
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the value stored in the node.
+     *
+     * @return the value in this node
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the value stored in the node.
+     *
+     * @param value the new value
+     */
+    public void setValue(V value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the previous node.
+     *
+     * @return the previous node
+     */
+    public CacheNode<K, V> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Sets the previous node.
+     *
+     * @param previous the new previous node
+     */
+    public void setPrevious(CacheNode<K, V> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public CacheNode<K, V> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(CacheNode<K, V> next) {
+        this.next = next;
+    }
+
+    /**
+     * Gets whatever the cache's eviction policy keeps in the node, such as
+     * the list or bucket holding it. Only the policy reads or writes it.
+     *
+     * @return the policy's data for the node
+     */
+    Object getPolicyData() {
+        return policyData;
+    }
+
+    /**
+     * Sets whatever the cache's eviction policy keeps in the node.
+     *
+     * @param policyData the policy's data for the node
+     */
+    void setPolicyData(Object policyData) {
+        this.policyData = policyData;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + key + "=" + value;
+    }
+}
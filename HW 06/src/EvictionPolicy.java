@@ -0,0 +1,91 @@
+/**
+ * Decides which entry a {@link BoundedCache} evicts when it is over
+ * capacity. The cache calls the policy on every access, and the policy
+ * keeps its own lists of the cache's nodes so every call is O(1).
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public interface EvictionPolicy<K, V> {
+
+    /**
+     * Records a new entry that was just added to the cache.
+     *
+     * @param node the node of the new entry
+     */
+    void onAdd(CacheNode<K, V> node);
+
+    /**
+     * Records a hit on an entry that is in the cache.
+     *
+     * @param node the node of the entry
+     */
+    void onAccess(CacheNode<K, V> node);
+
+    /**
+     * Records a lookup of a key that is not in the cache. Policies that
+     * only track entries in the cache can ignore this.
+     *
+     * @param key the key that was looked up
+     */
+    default void onMiss(K key) {
+    }
+
+    /**
+     * Forgets an entry that was removed from the cache.
+     *
+     * @param node the node of the entry
+     */
+    void onRemove(CacheNode<K, V> node);
+
+    /**
+     * Chooses an entry to evict and forgets it. Only called while the cache
+     * holds at least one entry.
+     *
+     * @return the node of the evicted entry
+     */
+    CacheNode<K, V> evict();
+
+    /**
+     * Forgets every entry.
+     */
+    void clear();
+
+    /**
+     * Returns a policy that evicts the least recently used entry.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return a new LRU policy
+     */
+    static <K, V> EvictionPolicy<K, V> lru() {
+        return new LruPolicy<>();
+    }
+
+    /**
+     * Returns a policy that evicts the least frequently used entry, and the
+     * least recently used of those on a tie.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return a new LFU policy
+     */
+    static <K, V> EvictionPolicy<K, V> lfu() {
+        return new LfuPolicy<>();
+    }
+
+    /**
+     * Returns a W-TinyLFU policy: a small LRU window in front of a
+     * segmented LRU main region, where a frequency sketch decides whether
+     * an entry leaving the window may displace one in the main region.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param capacity the capacity of the cache the policy is for
+     * @return a new W-TinyLFU policy
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    static <K, V> EvictionPolicy<K, V> windowTinyLfu(int capacity) {
+        return new WindowTinyLfuPolicy<>(capacity);
+    }
+}
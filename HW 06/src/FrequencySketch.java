@@ -0,0 +1,130 @@
+import java.util.Arrays;
+
+/**
+ * A count-min sketch that estimates how often each key has been seen,
+ * using a fixed amount of memory no matter how many distinct keys there
+ * are.
+ *
+ * Each key maps to one 4-bit counter in each of four rows, and its
+ * estimate is the smallest of the four. Counters stop at 15. Once the
+ * sketch has counted ten times as many events as the cache holds entries,
+ * every counter is halved, so keys that were popular long ago fade out.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class FrequencySketch<K> {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L,
+        0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long HALF_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for a cache of the given capacity.
+     *
+     * @param capacity the number of entries the cache holds
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public FrequencySketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        int counters = Math.max(64, Integer.highestOneBit(
+                Math.min(capacity, 1 << 22) * DEPTH - 1) << 1);
+        table = new long[counters >>> 4];
+        counterMask = counters - 1;
+        sampleSize = capacity > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE
+                : capacity * 10;
+    }
+
+    /**
+     * Returns the estimated number of times the key has been seen.
+     *
+     * @param key the key to look up
+     * @return the estimate, between 0 and 15
+     */
+    public int frequency(K key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            int counter = counterIndex(hash, i);
+            int count = (int) (table[counter >>> 4]
+                    >>> ((counter & 15) << 2)) & MAX_COUNT;
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key.
+     *
+     * @param key the key that was seen
+     */
+    public void increment(K key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int counter = counterIndex(hash, i);
+            int shift = (counter & 15) << 2;
+            long word = table[counter >>> 4];
+            if (((word >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[counter >>> 4] = word + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Forgets every key.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        additions = 0;
+    }
+
+    /**
+     * Helper method that halves every counter.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & HALF_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    /**
+     * Helper method that finds the key's counter in one row.
+     *
+     * @param hash the spread hash of the key
+     * @param row the row, between 0 and {@code DEPTH - 1}
+     * @return the index of the counter
+     */
+    private int counterIndex(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    /**
+     * Helper method that mixes the bits of a hash code, so keys whose hash
+     * codes differ only in a few bits still land on unrelated counters.
+     *
+     * @param x the hash code
+     * @return the mixed hash
+     */
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
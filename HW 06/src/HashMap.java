@@ -142,6 +142,34 @@ public class HashMap<K, V> implements HashMapInterface<K, V> {
         throw new NoSuchElementException("Key not found");
     }
 
+    /**
+     * Gets the value for the key, or the default value if the key is not in
+     * the map. Unlike {@link #get(Object)}, a missing key is found with the
+     * same single probe as a present one and does not throw.
+     *
+     * @param key the key to search for
+     * @param defaultValue the value to return if the key is not in the map
+     * @return the value for the key, or defaultValue if there is none
+     * @throws IllegalArgumentException if key is null
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = Math.abs(key.hashCode()) % table.length;
+        for (int i = 0; i < table.length; i++) {
+            int index = (hash + i) % table.length;
+            MapEntry<K, V> curr = table[index];
+            if (curr == null) {
+                return defaultValue;
+            } else if (!curr.isRemoved() && curr.getKey().equals(key)) {
+                return curr.getValue();
+            }
+        }
+        return defaultValue;
+    }
+
     @Override
     public boolean containsKey(K key) {
         if (key == null) {
@@ -0,0 +1,137 @@
+/**
+ * Eviction policy that evicts the least frequently used entry, and the
+ * least recently used of those on a tie.
+ *
+ * Entries with the same access count share a bucket, and the buckets form
+ * a list ordered by count. A hit moves an entry to the next bucket, which
+ * is either the neighbor or a new bucket linked in right after it, so
+ * every operation is O(1) instead of keeping entries sorted by count.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class LfuPolicy<K, V> implements EvictionPolicy<K, V> {
+    private Bucket<K, V> lowest;
+
+    /**
+     * The entries that have been accessed the same number of times, most
+     * recently used first. Each entry's node keeps its bucket as its policy
+     * data, so a hit finds the next bucket without a lookup.
+     */
+    private static final class Bucket<K, V> {
+        private final int frequency;
+        private final CacheList<K, V> entries = new CacheList<>();
+        private Bucket<K, V> previous;
+        private Bucket<K, V> next;
+
+        /**
+         * Creates an empty bucket.
+         *
+         * @param frequency the access count of the entries in the bucket
+         */
+        private Bucket(int frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = lowest;
+        if (bucket == null || bucket.frequency != 1) {
+            bucket = linkAfter(null, 1);
+        }
+        bucket.entries.addToFront(node);
+        node.setPolicyData(bucket);
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = bucket(node);
+        int frequency = bucket.frequency;
+        if (frequency == Integer.MAX_VALUE) {
+            bucket.entries.moveToFront(node);
+            return;
+        }
+
+        Bucket<K, V> next = bucket.next;
+        if (next == null || next.frequency != frequency + 1) {
+            next = linkAfter(bucket, frequency + 1);
+        }
+        remove(node);
+        next.entries.addToFront(node);
+        node.setPolicyData(next);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        remove(node);
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        CacheNode<K, V> victim = lowest.entries.getTail();
+        remove(victim);
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        lowest = null;
+    }
+
+    /**
+     * Helper method that links a new, empty bucket into the bucket list.
+     *
+     * @param predecessor the bucket to link after, or null to link it
+     * first
+     * @param frequency the access count of the new bucket
+     * @return the new bucket
+     */
+    private Bucket<K, V> linkAfter(Bucket<K, V> predecessor, int frequency) {
+        Bucket<K, V> bucket = new Bucket<>(frequency);
+        bucket.previous = predecessor;
+        bucket.next = predecessor == null ? lowest : predecessor.next;
+        if (bucket.next != null) {
+            bucket.next.previous = bucket;
+        }
+        if (predecessor == null) {
+            lowest = bucket;
+        } else {
+            predecessor.next = bucket;
+        }
+        return bucket;
+    }
+
+    /**
+     * Helper method that removes a node from its bucket, and the bucket
+     * from the bucket list if it is now empty.
+     *
+     * @param node the node to remove
+     */
+    private void remove(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = bucket(node);
+        bucket.entries.unlink(node);
+        node.setPolicyData(null);
+        if (bucket.entries.isEmpty()) {
+            if (bucket.previous == null) {
+                lowest = bucket.next;
+            } else {
+                bucket.previous.next = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.previous = bucket.previous;
+            }
+        }
+    }
+
+    /**
+     * Helper method that returns the bucket holding a node.
+     *
+     * @param node a node tracked by this policy
+     * @return the node's bucket
+     */
+    @SuppressWarnings("unchecked")
+    private Bucket<K, V> bucket(CacheNode<K, V> node) {
+        return (Bucket<K, V>) node.getPolicyData();
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Eviction policy that evicts the least recently used entry.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class LruPolicy<K, V> implements EvictionPolicy<K, V> {
+    private final CacheList<K, V> recency = new CacheList<>();
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        recency.addToFront(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        recency.moveToFront(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        recency.unlink(node);
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        CacheNode<K, V> victim = recency.getTail();
+        recency.unlink(victim);
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        recency.clear();
+    }
+}
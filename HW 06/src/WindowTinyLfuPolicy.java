@@ -0,0 +1,141 @@
+/**
+ * Eviction policy based on W-TinyLFU.
+ *
+ * New entries go into a small LRU window of about 1% of the capacity. An
+ * entry pushed out of the window joins the probation segment of the main
+ * region, and has to win against the probation segment's LRU entry to
+ * stay: a {@link FrequencySketch} estimates how often each has been
+ * requested, including misses, and the less popular one is evicted. A hit
+ * on a probation entry promotes it to the protected segment, which holds
+ * 80% of the main region. A burst of one-off keys therefore passes through
+ * the window without flushing the entries that are used all the time.
+ *
+ * @author Jalo Moster
+ * @version 1.0
+ */
+public class WindowTinyLfuPolicy<K, V> implements EvictionPolicy<K, V> {
+    private final CacheList<K, V> window = new CacheList<>();
+    private final CacheList<K, V> probation = new CacheList<>();
+    private final CacheList<K, V> protectedSegment = new CacheList<>();
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final FrequencySketch<K> sketch;
+    private CacheNode<K, V> candidate;
+
+    /**
+     * Creates a policy for a cache of the given capacity.
+     *
+     * @param capacity the number of entries the cache holds
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public WindowTinyLfuPolicy(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        windowCapacity = Math.max(1, capacity / 100);
+        protectedCapacity = (int) ((capacity - windowCapacity) * 4L / 5);
+        sketch = new FrequencySketch<>(capacity);
+    }
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        sketch.increment(node.getKey());
+        node.setPolicyData(window);
+        window.addToFront(node);
+        candidate = null;
+        if (window.size() > windowCapacity) {
+            candidate = window.getTail();
+            window.unlink(candidate);
+            candidate.setPolicyData(probation);
+            probation.addToFront(candidate);
+        }
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        sketch.increment(node.getKey());
+        candidate = null;
+        CacheList<K, V> list = list(node);
+        if (list == window) {
+            window.moveToFront(node);
+        } else if (list == protectedSegment) {
+            protectedSegment.moveToFront(node);
+        } else {
+            probation.unlink(node);
+            node.setPolicyData(protectedSegment);
+            protectedSegment.addToFront(node);
+            if (protectedSegment.size() > protectedCapacity) {
+                CacheNode<K, V> demoted = protectedSegment.getTail();
+                protectedSegment.unlink(demoted);
+                demoted.setPolicyData(probation);
+                probation.addToFront(demoted);
+            }
+        }
+    }
+
+    @Override
+    public void onMiss(K key) {
+        sketch.increment(key);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        candidate = null;
+        list(node).unlink(node);
+    }
+
+    /**
+     * Evicts whichever of the entry just pushed out of the window and the
+     * probation segment's LRU entry is requested less often. When that
+     * entry is the only one on probation, it competes with the protected
+     * segment's LRU entry instead. If no entry was just pushed out of the
+     * window, the probation segment's LRU entry is evicted, falling back to
+     * the protected segment and then the window when the segments before
+     * them are empty.
+     *
+     * @return the node of the evicted entry
+     */
+    @Override
+    public CacheNode<K, V> evict() {
+        CacheNode<K, V> victim = probation.getTail();
+        if (candidate != null && candidate == victim) {
+            CacheNode<K, V> rival = protectedSegment.getTail();
+            if (rival != null && sketch.frequency(candidate.getKey())
+                    > sketch.frequency(rival.getKey())) {
+                victim = rival;
+            }
+        } else if (candidate != null
+                && sketch.frequency(candidate.getKey())
+                <= sketch.frequency(victim.getKey())) {
+            victim = candidate;
+        } else if (victim == null) {
+            victim = protectedSegment.isEmpty() ? window.getTail()
+                    : protectedSegment.getTail();
+        }
+        candidate = null;
+        list(victim).unlink(victim);
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        sketch.clear();
+        candidate = null;
+    }
+
+    /**
+     * Helper method that returns the list holding a node, which the node
+     * keeps as its policy data.
+     *
+     * @param node a node tracked by this policy
+     * @return the window, probation or protected list
+     */
+    @SuppressWarnings("unchecked")
+    private CacheList<K, V> list(CacheNode<K, V> node) {
+        return (CacheList<K, V>) node.getPolicyData();
+    }
+}